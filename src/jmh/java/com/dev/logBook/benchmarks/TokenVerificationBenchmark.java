@@ -0,0 +1,55 @@
+package com.dev.logBook.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.dev.logBook.services.utils.SigningKeyRing;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret";
+
+    private SigningKeyRing keyRing;
+    private String token;
+
+    @Setup
+    public void setup() {
+        keyRing = SigningKeyRing.of("current", SECRET, Map.of("previous", "previous-secret"));
+        token = JWT.create()
+                .withIssuer(SigningKeyRing.ISSUER)
+                .withKeyId("current")
+                .withSubject("username")
+                .withClaim("id", UUID.randomUUID().toString())
+                .withIssuedAt(new Date())
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .sign(Algorithm.HMAC256(SECRET));
+    }
+
+    // the verify path TokenService used before the key ring: algorithm and verifier per call
+    @Benchmark
+    public DecodedJWT rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer(SigningKeyRing.ISSUER)
+                .build().verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT cachedKeyRing() {
+        return keyRing.verify(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public DecodedJWT cachedKeyRingContended() {
+        return keyRing.verify(token);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dev.logBook.benchmarks;
+
+import com.dev.logBook.services.utils.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int PRELOADED_ROWS = 200_000;
+
+    @Param({"random", "time-ordered"})
+    public String strategy;
+
+    private Supplier<UUID> idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+    private UUID userId;
+    private UUID workoutId;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        idGenerator = strategy.equals("random") ? UUID::randomUUID : TimeOrderedUuid::generate;
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:uuid-" + strategy + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE exercises (id UUID PRIMARY KEY, name VARCHAR(255), "
+                    + "reps INT NOT NULL, weight NUMERIC(38, 2), rir INT NOT NULL, created_at BIGINT, "
+                    + "workout_id UUID, user_id UUID)");
+            statement.execute("CREATE INDEX idx_exercises_user_created_at_id "
+                    + "ON exercises (user_id, created_at DESC, id DESC)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO exercises "
+                + "(id, name, reps, weight, rir, created_at, workout_id, user_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        userId = idGenerator.get();
+        workoutId = idGenerator.get();
+        for (int i = 0; i < PRELOADED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    // throughput is reported per inserted row
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, idGenerator.get());
+            insert.setString(2, "bench press");
+            insert.setInt(3, 10);
+            insert.setBigDecimal(4, BigDecimal.valueOf(80));
+            insert.setInt(5, 1);
+            insert.setLong(6, System.currentTimeMillis());
+            insert.setObject(7, workoutId);
+            insert.setObject(8, userId);
+            insert.addBatch();
+        }
+        int[] inserted = insert.executeBatch();
+        connection.commit();
+        return inserted;
+    }
+}
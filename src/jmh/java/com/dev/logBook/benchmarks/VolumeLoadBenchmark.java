@@ -0,0 +1,78 @@
+package com.dev.logBook.benchmarks;
+
+import com.dev.logBook.services.utils.VolumeAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VolumeLoadBenchmark {
+
+    private static final int DISTINCT_EXERCISES = 200;
+
+    @Param({"100", "10000", "1000000"})
+    public int sets;
+
+    private int[] catalogIds;
+    private String[] names;
+    private BigDecimal[] weights;
+    private long[] scaledWeights;
+    private int[] reps;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        catalogIds = new int[sets];
+        names = new String[sets];
+        weights = new BigDecimal[sets];
+        scaledWeights = new long[sets];
+        reps = new int[sets];
+        for (int i = 0; i < sets; i++) {
+            catalogIds[i] = 1 + random.nextInt(DISTINCT_EXERCISES);
+            names[i] = "exercise " + catalogIds[i];
+            // the column keeps two fraction digits
+            weights[i] = BigDecimal.valueOf(random.nextInt(150_000), 2);
+            scaledWeights[i] = VolumeAccumulator.toScaled(weights[i]);
+            reps[i] = 1 + random.nextInt(20);
+        }
+    }
+
+    // the per set BigDecimal sum the summaries were rebuilt with before the accumulator
+    @Benchmark
+    public HashMap<String, BigDecimal> bigDecimalHashMap() {
+        HashMap<String, BigDecimal> result = new HashMap<>();
+        for (int i = 0; i < sets; i++) {
+            BigDecimal volume = weights[i].multiply(BigDecimal.valueOf(reps[i]));
+            if (result.containsKey(names[i])) {
+                volume = volume.add(result.get(names[i]));
+            }
+            result.put(names[i], volume);
+        }
+        return result;
+    }
+
+    // what WorkoutSummaryService does: the summarized sets still hold BigDecimal weights
+    @Benchmark
+    public VolumeAccumulator accumulatorFromBigDecimal() {
+        VolumeAccumulator accumulator = new VolumeAccumulator(DISTINCT_EXERCISES);
+        for (int i = 0; i < sets; i++) {
+            accumulator.add(catalogIds[i], weights[i], reps[i]);
+        }
+        return accumulator;
+    }
+
+    // analytics jobs reading scaled weights straight from a result set
+    @Benchmark
+    public VolumeAccumulator accumulatorFromScaledLongs() {
+        VolumeAccumulator accumulator = new VolumeAccumulator(DISTINCT_EXERCISES);
+        for (int i = 0; i < sets; i++) {
+            accumulator.add(catalogIds[i], scaledWeights[i], 2, reps[i]);
+        }
+        return accumulator;
+    }
+}
@@ -0,0 +1,92 @@
+package com.dev.logBook.benchmarks;
+
+import com.dev.logBook.entities.Exercise;
+import com.dev.logBook.services.utils.WorkoutComparison;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorkoutComparisonBenchmark {
+
+    private static final int SETS_PER_EXERCISE = 4;
+
+    @Param({"10", "100", "1000"})
+    public int sets;
+
+    private List<Exercise> oldExercises;
+    private List<Exercise> newExercises;
+    private String[] displayNames;
+
+    @Setup
+    public void setup() {
+        int distinctExercises = Math.max(1, sets / SETS_PER_EXERCISE);
+        displayNames = new String[distinctExercises];
+        for (int i = 0; i < distinctExercises; i++) {
+            displayNames[i] = "Exercise " + i;
+        }
+        Random random = new Random(42);
+        oldExercises = workout(random, distinctExercises);
+        newExercises = workout(random, distinctExercises);
+    }
+
+    private List<Exercise> workout(Random random, int distinctExercises) {
+        List<Exercise> exercises = new ArrayList<>(sets);
+        for (int i = 0; i < sets; i++) {
+            int catalogId = random.nextInt(distinctExercises);
+            exercises.add(Exercise.builder()
+                    .name(random.nextBoolean()
+                            ? displayNames[catalogId]
+                            : displayNames[catalogId].toUpperCase())
+                    .catalogId(catalogId)
+                    .reps(6 + random.nextInt(10))
+                    .weight(BigDecimal.valueOf(20 + random.nextInt(100)))
+                    .rir(random.nextInt(4))
+                    .build());
+        }
+        Collections.shuffle(exercises, random);
+        return exercises;
+    }
+
+    // compareWorkouts plus getUniqueExercises as they were before the comparison engine
+    @Benchmark
+    public int nestedLoops() {
+        int matches = 0;
+        for (Exercise oldExercise : oldExercises) {
+            for (Exercise newExercise : newExercises) {
+                if (oldExercise.getName().equalsIgnoreCase(newExercise.getName())) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+
+        List<Exercise> oldOnly = new ArrayList<>(oldExercises);
+        List<Exercise> otherExercises = new ArrayList<>(newExercises);
+        Iterator<Exercise> iterator = oldOnly.iterator();
+        while (iterator.hasNext()) {
+            Exercise current = iterator.next();
+            for (Exercise exercise : otherExercises) {
+                if (exercise.getName().equalsIgnoreCase(current.getName())) {
+                    iterator.remove();
+                    otherExercises.remove(exercise);
+                    break;
+                }
+            }
+        }
+        return matches + oldOnly.size();
+    }
+
+    @Benchmark
+    public WorkoutComparison hashed() {
+        return WorkoutComparison.of(oldExercises, newExercises, catalogId -> displayNames[catalogId]);
+    }
+}
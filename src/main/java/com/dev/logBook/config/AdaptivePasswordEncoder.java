@@ -0,0 +1,67 @@
+package com.dev.logBook.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+    private static final int CALIBRATION_STRENGTH = 8;
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptivePasswordEncoder(long targetMillis, int minStrength, int maxStrength) {
+        this.strength = calibrate(targetMillis, minStrength, maxStrength);
+        this.delegate = new BCryptPasswordEncoder(strength);
+        log.info("BCrypt strength calibrated to {} for a target of {} ms", strength, targetMillis);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost != -1 && cost < strength;
+    }
+
+    // bcrypt hashes look like $2a$10$..., the two digits after the version are the cost
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // each extra cost unit doubles the work, so one timed hash is enough to extrapolate
+    private static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000.0, 0.01);
+
+        int extraCost = (int) Math.floor(Math.log(targetMillis / elapsedMillis) / Math.log(2));
+        int calibrated = CALIBRATION_STRENGTH + extraCost;
+        return Math.min(maxStrength, Math.max(minStrength, calibrated));
+    }
+}
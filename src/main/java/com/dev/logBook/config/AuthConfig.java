@@ -1,6 +1,7 @@
 package com.dev.logBook.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,7 +11,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -27,6 +27,18 @@ public class AuthConfig {
     @Autowired
     private FilterToken filterToken;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Value("${password.hashing.target-millis:100}")
+    private long hashingTargetMillis;
+
+    @Value("${password.hashing.min-strength:10}")
+    private int hashingMinStrength;
+
+    @Value("${password.hashing.max-strength:16}")
+    private int hashingMaxStrength;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
@@ -36,7 +48,7 @@ public class AuthConfig {
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and().authorizeHttpRequests()
-                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/register")
+                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/register", "/auth/refresh")
                 .permitAll()
                 .requestMatchers(
                         "/v3/api-docs",
@@ -46,6 +58,7 @@ public class AuthConfig {
                 .permitAll()
                 .anyRequest().authenticated()
                 .and().addFilterBefore(filterToken, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, FilterToken.class)
                 .build();
     }
 
@@ -57,7 +70,8 @@ public class AuthConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new AdaptivePasswordEncoder(hashingTargetMillis, hashingMinStrength,
+                hashingMaxStrength);
     }
 
     CorsConfigurationSource corsConfigurationSource() {
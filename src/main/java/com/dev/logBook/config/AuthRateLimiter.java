@@ -0,0 +1,35 @@
+package com.dev.logBook.config;
+
+import com.dev.logBook.services.utils.TokenBucketLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketLimiter addressLimiter;
+    private final TokenBucketLimiter usernameLimiter;
+
+    public AuthRateLimiter(@Value("${rate-limit.stripes:4096}") int stripes,
+                           @Value("${rate-limit.ip.capacity:20}") int ipCapacity,
+                           @Value("${rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                           @Value("${rate-limit.username.capacity:5}") int usernameCapacity,
+                           @Value("${rate-limit.username.refill-per-minute:5}") int usernameRefillPerMinute,
+                           ObjectProvider<Clock> clockProvider) {
+        Clock clock = clockProvider.getIfAvailable(Clock::systemUTC);
+        this.addressLimiter = new TokenBucketLimiter(stripes, ipCapacity, ipRefillPerMinute, clock::millis);
+        this.usernameLimiter = new TokenBucketLimiter(stripes, usernameCapacity, usernameRefillPerMinute,
+                clock::millis);
+    }
+
+    public boolean tryAcquireForAddress(String remoteAddress) {
+        return addressLimiter.tryAcquire(remoteAddress);
+    }
+
+    public boolean tryAcquireForUsername(String username) {
+        return usernameLimiter.tryAcquire(username.toLowerCase().hashCode());
+    }
+}
@@ -1,8 +1,12 @@
 package com.dev.logBook.config;
 
-import com.dev.logBook.entities.User;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.dev.logBook.entities.UserPrincipal;
 import com.dev.logBook.repositories.UserRepository;
+import com.dev.logBook.services.PrincipalCacheService;
+import com.dev.logBook.services.TokenRevocationService;
 import com.dev.logBook.services.TokenService;
+import com.dev.logBook.services.exceptions.InvalidTokenException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,8 +14,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
@@ -21,12 +26,20 @@ import java.io.IOException;
 @Component
 public class FilterToken extends OncePerRequestFilter {
 
+    private static final RequestMatcher REFRESH = new AntPathRequestMatcher("/auth/refresh", "POST");
+
     @Autowired
     private TokenService tokenService;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCacheService principalCacheService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     @Qualifier("handlerExceptionResolver")
     private HandlerExceptionResolver resolver;
@@ -43,12 +56,16 @@ public class FilterToken extends OncePerRequestFilter {
             if (authorizationHeader != null) {
 
                 token = authorizationHeader.replace("Bearer ", "");
-                String subject = this.tokenService.getSubject(token);
+                DecodedJWT decodedToken = this.tokenService.verify(token);
+                if (tokenRevocationService.isRevoked(decodedToken.getId())) {
+                    throw new InvalidTokenException("Token has been revoked");
+                }
 
-                User user = this.userRepository.findByUsername(subject);
+                UserPrincipal user = resolvePrincipal(decodedToken);
 
-                Authentication authentication = new UsernamePasswordAuthenticationToken(user,
-                        null, user.getAuthorities());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                authentication.setDetails(decodedToken);
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -58,4 +75,19 @@ public class FilterToken extends OncePerRequestFilter {
             resolver.resolveException(request, response, null, e);
         }
     }
+
+    // clients refresh because their access token expired, sending it along must not fail the call
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return REFRESH.matches(request);
+    }
+
+    private UserPrincipal resolvePrincipal(DecodedJWT decodedToken) {
+        if (tokenService.isClaimsOnly()) {
+            UserPrincipal principal = tokenService.getPrincipal(decodedToken);
+            if (principal != null) return principal;
+        }
+        return principalCacheService.get(decodedToken.getSubject(),
+                decodedToken.getIssuedAtAsInstant(), userRepository::findByUsername);
+    }
 }
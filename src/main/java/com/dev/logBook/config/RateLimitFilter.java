@@ -0,0 +1,49 @@
+package com.dev.logBook.config;
+
+import com.dev.logBook.services.exceptions.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Set;
+
+// keyed on the remote address, which is the proxy behind a reverse proxy unless
+// server.forward-headers-strategy lets the container resolve the client address
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> RATE_LIMITED_PATHS = Set.of("/auth/login", "/auth/register");
+
+    @Autowired
+    private AuthRateLimiter authRateLimiter;
+
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver resolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !RATE_LIMITED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!authRateLimiter.tryAcquireForAddress(request.getRemoteAddr())) {
+            resolver.resolveException(request, response, null, new TooManyRequestsException());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.logBook.config;
+
+import com.dev.logBook.entities.UserPrincipal;
+import com.dev.logBook.entities.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public record TokenPrincipal(UUID id, String username, Role role) implements UserPrincipal {
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.controller.dto.ExerciseAliasDTO;
+import com.dev.logBook.services.AuthenticationService;
+import com.dev.logBook.services.ExerciseCatalogService;
+import com.dev.logBook.services.TokenService;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping(value = "/admin")
+@RolesAllowed("ADMIN")
+public class AdminController {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @GetMapping(value = "/keys")
+    public ResponseEntity<Set<String>> getKeyIds() {
+        return ResponseEntity.ok().body(tokenService.getKeyIds());
+    }
+
+    // the secret is generated and stored server side, only its kid is returned
+    @PostMapping(value = "/keys")
+    public ResponseEntity<Map<String, String>> rotateKey() {
+        String keyId = tokenService.rotateKey();
+        return ResponseEntity.ok().body(Map.of("keyId", keyId));
+    }
+
+    @DeleteMapping(value = "/keys/{keyId}")
+    public ResponseEntity<Void> retireKey(@PathVariable String keyId) {
+        tokenService.retireKey(keyId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/password-costs")
+    public ResponseEntity<Map<String, Long>> getPasswordCostDistribution() {
+        return ResponseEntity.ok().body(authenticationService.getPasswordCostDistribution());
+    }
+
+    @PostMapping(value = "/exercise-aliases")
+    public ResponseEntity<Void> addExerciseAlias(@Valid @RequestBody ExerciseAliasDTO exerciseAlias) {
+        exerciseCatalogService.addAlias(exerciseAlias.getAlias(), exerciseAlias.getExerciseName());
+        return ResponseEntity.noContent().build();
+    }
+}
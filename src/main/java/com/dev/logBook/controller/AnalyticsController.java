@@ -0,0 +1,49 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.controller.exceptions.InvalidMuscleEnumException;
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.enums.VolumeBucket;
+import com.dev.logBook.services.AnalyticsService;
+import com.dev.logBook.services.exceptions.InvalidAnalyticsQueryException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping(value = "/volume")
+    public ResponseEntity<List<VolumePointDto>> getVolume
+            (@RequestParam String muscle,
+             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+             @RequestParam(defaultValue = "day") String bucket) {
+        Muscles validMuscle;
+        try {
+            validMuscle = Muscles.valueOf(muscle.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMuscleEnumException(muscle);
+        }
+        VolumeBucket validBucket;
+        try {
+            validBucket = VolumeBucket.valueOf(bucket.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAnalyticsQueryException("Invalid bucket: " + bucket +
+                    ". Buckets available: day, week, month");
+        }
+        List<VolumePointDto> volume = analyticsService.getVolume(validMuscle, from, to, validBucket);
+        return ResponseEntity.ok().body(volume);
+    }
+}
@@ -1,34 +1,80 @@
 package com.dev.logBook.controller;
 
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dev.logBook.controller.dto.LoginDTO;
 import com.dev.logBook.controller.dto.RegisterDTO;
 import com.dev.logBook.services.AuthenticationService;
+import com.dev.logBook.services.TokenService;
+import com.dev.logBook.services.utils.AuthTokens;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping(value = "/auth")
 public class AuthController {
 
+    static final String REFRESH_COOKIE = "refresh_token";
+
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Autowired
+    private TokenService tokenService;
+
     @PostMapping(value = "/register")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterDTO register) {
-        String token = authenticationService.register(register);
-        return ResponseEntity.ok().body(token);
+    public CompletableFuture<ResponseEntity<String>> register
+            (@Valid @RequestBody RegisterDTO register) {
+        return authenticationService.registerAsync(register).thenApply(this::tokenResponse);
     }
 
     @PostMapping(value = "/login")
-    public ResponseEntity<String> login(@Valid @RequestBody LoginDTO login) {
-        String token = authenticationService.login(login);
-        return ResponseEntity.ok().body(token);
+    public CompletableFuture<ResponseEntity<String>> login(@Valid @RequestBody LoginDTO login) {
+        return authenticationService.loginAsync(login).thenApply(this::tokenResponse);
+    }
+
+    @PostMapping(value = "/refresh")
+    public ResponseEntity<String> refresh
+            (@CookieValue(value = REFRESH_COOKIE, required = false) String refreshToken) {
+        return tokenResponse(authenticationService.refresh(refreshToken));
     }
 
+    @PostMapping(value = "/logout")
+    public ResponseEntity<Void> logout
+            (Authentication authentication,
+             @CookieValue(value = REFRESH_COOKIE, required = false) String refreshToken) {
+        authenticationService.logout((DecodedJWT) authentication.getDetails(), refreshToken);
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString())
+                .build();
+    }
+
+    private ResponseEntity<String> tokenResponse(AuthTokens tokens) {
+        ResponseCookie cookie = refreshCookie(tokens.refreshToken(),
+                tokenService.getRefreshTokenExpiration());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(tokens.accessToken());
+    }
+
+    private ResponseCookie refreshCookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(REFRESH_COOKIE, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path("/auth")
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
 }
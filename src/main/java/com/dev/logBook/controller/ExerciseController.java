@@ -1,5 +1,6 @@
 package com.dev.logBook.controller;
 
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.services.ExerciseService;
@@ -37,6 +38,14 @@ public class ExerciseController {
         return ResponseEntity.ok().body(exercises);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPage<Exercise>> findPage
+            (@RequestParam int size,
+             @RequestParam(required = false) String cursor) {
+        CursorPage<Exercise> page = exerciseService.findPage(cursor, size);
+        return ResponseEntity.ok().body(page);
+    }
+
     @GetMapping(value = "/{id}")
     public ResponseEntity<Exercise> findById(@PathVariable UUID id) {
         Exercise exercise = exerciseService.findById(id);
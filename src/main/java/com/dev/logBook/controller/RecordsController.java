@@ -0,0 +1,25 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.dtos.ExerciseRecordsDto;
+import com.dev.logBook.services.PersonalRecordService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/records")
+public class RecordsController {
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @GetMapping
+    public ResponseEntity<List<ExerciseRecordsDto>> findAll() {
+        List<ExerciseRecordsDto> records = personalRecordService.findAll();
+        return ResponseEntity.ok().body(records);
+    }
+}
@@ -1,16 +1,26 @@
 package com.dev.logBook.controller;
 
 import com.dev.logBook.controller.exceptions.InvalidMuscleEnumException;
+import com.dev.logBook.dtos.CursorPage;
+import com.dev.logBook.dtos.ExerciseDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
 import com.dev.logBook.dtos.WorkoutDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.services.ExerciseService;
 import com.dev.logBook.services.WorkoutService;
 import com.dev.logBook.services.utils.ExerciseComparator;
+import com.dev.logBook.services.utils.WorkoutComparison;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -21,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 
+@Validated
 @RestController
 @RequestMapping("/workouts")
 public class WorkoutController {
@@ -28,6 +39,9 @@ public class WorkoutController {
     @Autowired
     private WorkoutService workoutService;
 
+    @Autowired
+    private ExerciseService exerciseService;
+
     @PostMapping
     public ResponseEntity<Workout> create(@Valid @RequestBody WorkoutDto workoutDTO) {
         Workout workout = workoutService.create(workoutDTO);
@@ -39,12 +53,34 @@ public class WorkoutController {
         return ResponseEntity.created(uri).body(workout);
     }
 
+    @PostMapping(value = "/{id}/exercises:batch")
+    public ResponseEntity<List<Exercise>> createExercises
+            (@PathVariable UUID id,
+             @RequestBody @Size(max = 100) List<ExerciseDto> exerciseDtos) {
+        List<Exercise> exercises = exerciseService.createBatch(id, exerciseDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(exercises);
+    }
+
     @GetMapping
     public ResponseEntity<List<Workout>> findAll() {
         List<Workout> workouts = workoutService.findAll();
         return ResponseEntity.ok().body(workouts);
     }
 
+    @GetMapping(value = "/summary")
+    public ResponseEntity<List<WorkoutSummaryDto>> findSummaries() {
+        List<WorkoutSummaryDto> summaries = workoutService.findSummaries();
+        return ResponseEntity.ok().body(summaries);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPage<Workout>> findPage
+            (@RequestParam int size,
+             @RequestParam(required = false) String cursor) {
+        CursorPage<Workout> page = workoutService.findPage(cursor, size);
+        return ResponseEntity.ok().body(page);
+    }
+
     @GetMapping(value = "/{id}")
     public ResponseEntity<Workout> findById(@PathVariable UUID id) {
         Workout workout = workoutService.findById(id);
@@ -77,10 +113,16 @@ public class WorkoutController {
         }
     }
 
+    @GetMapping(value = "/previousWorkout/{id}")
+    public ResponseEntity<Workout> findPreviousComparable(@PathVariable UUID id) {
+        Workout workout = workoutService.findPreviousComparable(id);
+        return ResponseEntity.ok().body(workout);
+    }
+
     @GetMapping(value = "/exercisesOutsideRepRange/{id}")
-    public ResponseEntity<List<Exercise>> getExercisesOutsideRepsRange
+    public ResponseEntity<List<ExerciseSetDto>> getExercisesOutsideRepsRange
             (@PathVariable UUID id) {
-        List<Exercise> exercises = workoutService.getExercisesOutsideRepsRange(id);
+        List<ExerciseSetDto> exercises = workoutService.getExercisesOutsideRepsRange(id);
         return ResponseEntity.ok().body(exercises);
     }
 
@@ -90,6 +132,12 @@ public class WorkoutController {
         return ResponseEntity.ok().body(result);
     }
 
+    @GetMapping(value = "/stats/{id}")
+    public ResponseEntity<WorkoutStatsDto> getStats(@PathVariable UUID id) {
+        WorkoutStatsDto stats = workoutService.getStats(id);
+        return ResponseEntity.ok().body(stats);
+    }
+
     @GetMapping(value = "/compareWorkouts/{oldWorkoutId}/{currentWorkoutId}")
     public ResponseEntity<List<ExerciseComparator>> getWorkoutsComparison
             (@PathVariable UUID oldWorkoutId,
@@ -99,6 +147,14 @@ public class WorkoutController {
         return ResponseEntity.ok().body(result);
     }
 
+    @GetMapping(value = "/diff/{oldWorkoutId}/{currentWorkoutId}")
+    public ResponseEntity<WorkoutComparison> getWorkoutsDiff
+            (@PathVariable UUID oldWorkoutId,
+             @PathVariable UUID currentWorkoutId) {
+        WorkoutComparison result = workoutService.diffWorkouts(oldWorkoutId, currentWorkoutId);
+        return ResponseEntity.ok().body(result);
+    }
+
     @GetMapping(value = "/uniqueOldExercises/{oldWorkoutId}/{currentWorkoutId}")
     public ResponseEntity<List<Exercise>> getUniqueWorkoutExercises
             (@PathVariable UUID oldWorkoutId,
@@ -0,0 +1,21 @@
+package com.dev.logBook.controller.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseAliasDTO {
+    @NotBlank
+    @Size(max = 255)
+    private String alias;
+    @NotBlank
+    @Size(max = 255)
+    private String exerciseName;
+}
@@ -0,0 +1,19 @@
+package com.dev.logBook.dtos;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// a record is null until the exercise has a set with a weight
+public record ExerciseRecordsDto(String name,
+                                 RecordSetDto heaviestWeight,
+                                 RecordSetDto bestE1rm,
+                                 RecordSetDto bestVolumeSet) {
+
+    public record RecordSetDto(UUID exerciseId,
+                               BigDecimal weight,
+                               int reps,
+                               int rir,
+                               BigDecimal score,
+                               Long achievedAt) {
+    }
+}
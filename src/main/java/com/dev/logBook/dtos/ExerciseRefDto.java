@@ -0,0 +1,8 @@
+package com.dev.logBook.dtos;
+
+import java.util.UUID;
+
+// the ids a deleted set leaves behind, enough to retract the personal records it held
+public record ExerciseRefDto(UUID id,
+                             Integer catalogId) {
+}
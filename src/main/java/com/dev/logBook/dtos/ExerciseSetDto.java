@@ -0,0 +1,12 @@
+package com.dev.logBook.dtos;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ExerciseSetDto(UUID id,
+                             String name,
+                             int reps,
+                             BigDecimal weight,
+                             int rir,
+                             Long createdAt) {
+}
@@ -0,0 +1,18 @@
+package com.dev.logBook.dtos;
+
+import com.dev.logBook.entities.Exercise;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// the part of an exercise row that feeds the workout summaries
+public record SummarizedSetDto(UUID workoutId,
+                               Integer catalogId,
+                               BigDecimal weight,
+                               int reps) {
+
+    public static SummarizedSetDto of(UUID workoutId, Exercise exercise) {
+        return new SummarizedSetDto(workoutId, exercise.getCatalogId(),
+                exercise.getWeight(), exercise.getReps());
+    }
+}
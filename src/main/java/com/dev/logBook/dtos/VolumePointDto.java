@@ -0,0 +1,10 @@
+package com.dev.logBook.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// date is the first day of the bucket
+public record VolumePointDto(LocalDate date,
+                             BigDecimal volume,
+                             long setCount) {
+}
@@ -0,0 +1,17 @@
+package com.dev.logBook.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record WorkoutStatsDto(long setCount,
+                              long outOfRangeCount,
+                              BigDecimal totalVolume,
+                              List<ExerciseStatsDto> exercises) {
+
+    public record ExerciseStatsDto(String name,
+                                   int setCount,
+                                   BigDecimal volume,
+                                   BigDecimal topSetWeight,
+                                   int topSetReps) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.dev.logBook.dtos;
+
+import com.dev.logBook.enums.Muscles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record WorkoutSummaryDto(UUID id,
+                                LocalDate date,
+                                Muscles muscle,
+                                int lowerRepsRange,
+                                int upperRepsRange,
+                                long exerciseCount) {
+}
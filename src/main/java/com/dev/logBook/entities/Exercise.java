@@ -17,17 +17,36 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity(name = "exercises")
+@Table(indexes = {
+        @Index(name = "idx_exercises_user_created_at_id", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_exercises_workout_id", columnList = "workout_id"),
+        @Index(name = "idx_exercises_catalog_id", columnList = "catalog_id"),
+        @Index(name = "idx_exercises_user_catalog_weight", columnList = "user_id, catalog_id, weight DESC"),
+        @Index(name = "idx_exercises_user_catalog_e1rm", columnList = "user_id, catalog_id, e1rm DESC"),
+        @Index(name = "idx_exercises_user_catalog_volume", columnList = "user_id, catalog_id, volume DESC")
+})
 public class Exercise {
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID",
+            strategy = "com.dev.logBook.entities.generators.TimeOrderedUuidGenerator")
     private UUID id;
     private String name;
     private int reps;
     private BigDecimal weight;
     private int rir;
+    // derived from weight, reps and rir by ExerciseService on every write
+    @JsonIgnore
+    @Column(precision = 38, scale = 2)
+    private BigDecimal e1rm;
+    @JsonIgnore
+    @Column(precision = 38, scale = 2)
+    private BigDecimal volume;
     @Column(name = "created_at", updatable = false)
     private Long createdAt;
+    @JsonIgnore
+    @Column(name = "catalog_id")
+    private Integer catalogId;
 
     @JsonIgnore
     @ManyToOne
@@ -0,0 +1,21 @@
+package com.dev.logBook.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "exercise_aliases")
+public class ExerciseAlias {
+    // stored normalized, like the catalog names
+    @Id
+    private String alias;
+
+    @Column(name = "catalog_id", nullable = false)
+    private Integer catalogId;
+}
@@ -0,0 +1,22 @@
+package com.dev.logBook.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "exercise_catalog")
+public class ExerciseCatalogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "normalized_name", unique = true, nullable = false)
+    private String normalizedName;
+
+    @Column(name = "display_name", nullable = false)
+    private String displayName;
+}
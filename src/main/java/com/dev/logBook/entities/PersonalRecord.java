@@ -0,0 +1,65 @@
+package com.dev.logBook.entities;
+
+import com.dev.logBook.enums.RecordType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// best set of a user per exercise and record type, kept current by PersonalRecordService
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "personal_records")
+@IdClass(PersonalRecord.Key.class)
+@Table(indexes = @Index(name = "idx_personal_records_catalog_id", columnList = "catalog_id"))
+public class PersonalRecord {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Id
+    @Column(name = "catalog_id")
+    private Integer catalogId;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.SMALLINT)
+    private RecordType kind;
+
+    @Column(name = "exercise_id", nullable = false)
+    private UUID exerciseId;
+
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal weight;
+    private int reps;
+    private int rir;
+
+    // the weight, e1RM or volume the record is ranked by
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal score;
+
+    @Column(name = "achieved_at")
+    private Long achievedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private Integer catalogId;
+        private RecordType kind;
+    }
+}
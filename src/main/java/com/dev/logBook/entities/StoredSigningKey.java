@@ -0,0 +1,28 @@
+package com.dev.logBook.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// shared by every node, the newest key that is not retired signs new tokens
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "signing_keys")
+public class StoredSigningKey {
+    @Id
+    private String kid;
+
+    @Column(nullable = false)
+    private String secret;
+
+    @Column(name = "created_at", nullable = false)
+    private Long createdAt;
+
+    // retired keys are kept so the configured secrets cannot bring them back
+    @Column(name = "retired_at")
+    private Long retiredAt;
+}
@@ -1,11 +1,14 @@
 package com.dev.logBook.entities;
 
 import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.entities.listeners.UserCacheEvictionListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,10 +21,12 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @Entity(name = "users")
-public class User implements UserDetails {
+@EntityListeners(UserCacheEvictionListener.class)
+public class User implements UserDetails, UserPrincipal {
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID",
+            strategy = "com.dev.logBook.entities.generators.TimeOrderedUuidGenerator")
     private UUID id;
 
     @Column(unique = true)
@@ -29,6 +34,7 @@ public class User implements UserDetails {
     @Column(unique = true)
     private String email;
     private String password;
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private Role role;
 
     @JsonIgnore
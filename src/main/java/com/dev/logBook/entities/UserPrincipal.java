@@ -0,0 +1,17 @@
+package com.dev.logBook.entities;
+
+import com.dev.logBook.entities.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface UserPrincipal {
+    UUID getId();
+
+    String getUsername();
+
+    Role getRole();
+
+    Collection<? extends GrantedAuthority> getAuthorities();
+}
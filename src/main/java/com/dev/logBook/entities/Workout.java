@@ -7,9 +7,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,19 +22,37 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity(name = "workouts")
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"muscle", "user_id", "date"}))
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_workouts_muscle_user_date",
+        columnNames = {"muscle", "user_id", "date"}),
+        indexes = {
+                @Index(name = "idx_workouts_user_muscle_date", columnList = "user_id, muscle, date DESC"),
+                @Index(name = "idx_workouts_previous_comparable",
+                        columnList = "user_id, muscle, lower_reps_range, upper_reps_range, date DESC"),
+                @Index(name = "idx_workouts_user_date_id", columnList = "user_id, date DESC, id DESC")
+        })
+@BatchSize(size = 100)
 public class Workout {
     @Id
     @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @GenericGenerator(name = "UUID",
+            strategy = "com.dev.logBook.entities.generators.TimeOrderedUuidGenerator")
     private UUID id;
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private Muscles muscle;
     private LocalDate date;
+    @Column(name = "lower_reps_range")
     private int lowerRepsRange;
+    @Column(name = "upper_reps_range")
     private int upperRepsRange;
 
+    // paged queries cannot join fetch a collection, they initialize it in batches instead
+    @BatchSize(size = 100)
+    // never null, orphan removal tracks this instance and fails if it is swapped out
+    @Builder.Default
+    // the diff pairs the n-th set of an exercise in both workouts, so they load in logging order
+    @OrderBy("createdAt ASC, id ASC")
     @OneToMany(mappedBy = "workout", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Exercise> exercises;
+    private List<Exercise> exercises = new ArrayList<>();
 
     @JsonIgnore
     @ManyToOne
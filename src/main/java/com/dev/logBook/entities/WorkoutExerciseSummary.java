@@ -0,0 +1,48 @@
+package com.dev.logBook.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "workout_exercise_summaries")
+@IdClass(WorkoutExerciseSummary.Key.class)
+public class WorkoutExerciseSummary {
+    @Id
+    @Column(name = "workout_id")
+    private UUID workoutId;
+
+    @Id
+    @Column(name = "catalog_id")
+    private Integer catalogId;
+
+    private int setCount;
+
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal volume;
+
+    // heaviest set, more reps breaking ties
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal topSetWeight;
+    private int topSetReps;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID workoutId;
+        private Integer catalogId;
+    }
+}
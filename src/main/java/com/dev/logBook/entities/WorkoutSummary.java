@@ -0,0 +1,50 @@
+package com.dev.logBook.entities;
+
+import com.dev.logBook.enums.Muscles;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// kept in step with the exercises of a workout by WorkoutSummaryService
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity(name = "workout_summaries")
+@Table(indexes = @Index(name = "idx_workout_summaries_user_muscle_date",
+        columnList = "user_id, muscle, date"))
+public class WorkoutSummary {
+    @Id
+    @Column(name = "workout_id")
+    private UUID workoutId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    // copied from the workout, whose rep range never changes after creation
+    private int lowerRepsRange;
+    private int upperRepsRange;
+
+    // one workout per user, muscle and day, so each row is also the daily volume rollup
+    @JdbcTypeCode(SqlTypes.SMALLINT)
+    private Muscles muscle;
+    private LocalDate date;
+
+    private long setCount;
+    private long outOfRangeCount;
+
+    @Column(nullable = false, precision = 38, scale = 2)
+    private BigDecimal totalVolume;
+}
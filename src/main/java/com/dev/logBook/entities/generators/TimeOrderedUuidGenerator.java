@@ -0,0 +1,37 @@
+package com.dev.logBook.entities.generators;
+
+import com.dev.logBook.services.utils.TimeOrderedUuid;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    public static final String STRATEGY_SETTING = "logbook.id.strategy";
+
+    private Supplier<UUID> strategy = TimeOrderedUuid::generate;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        String configured = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(STRATEGY_SETTING, StandardConverters.STRING, "time-ordered");
+        strategy = switch (configured) {
+            case "time-ordered" -> TimeOrderedUuid::generate;
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException(
+                    STRATEGY_SETTING + " must be time-ordered or random, got " + configured);
+        };
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return strategy.get();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dev.logBook.entities.listeners;
+
+import com.dev.logBook.entities.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+// runs at flush, so the eviction itself waits for the commit in PrincipalCacheService
+public class UserCacheEvictionListener {
+
+    @Autowired
+    private ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        if (eventPublisher != null) {
+            eventPublisher.ifAvailable(publisher -> publisher.publishEvent(new UserChangedEvent(user.getId())));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.dev.logBook.entities.listeners;
+
+import java.util.UUID;
+
+public record UserChangedEvent(UUID userId) {
+}
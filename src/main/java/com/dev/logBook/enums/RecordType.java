@@ -0,0 +1,8 @@
+package com.dev.logBook.enums;
+
+// stored by ordinal in personal_records.kind, only ever append
+public enum RecordType {
+    HEAVIEST_WEIGHT,
+    BEST_E1RM,
+    BEST_VOLUME_SET
+}
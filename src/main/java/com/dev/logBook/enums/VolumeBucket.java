@@ -0,0 +1,22 @@
+package com.dev.logBook.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.function.UnaryOperator;
+
+public enum VolumeBucket {
+    DAY(date -> date),
+    WEEK(date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))),
+    MONTH(date -> date.withDayOfMonth(1));
+
+    private final UnaryOperator<LocalDate> start;
+
+    VolumeBucket(UnaryOperator<LocalDate> start) {
+        this.start = start;
+    }
+
+    public LocalDate start(LocalDate date) {
+        return start.apply(date);
+    }
+}
@@ -4,13 +4,20 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.dev.logBook.controller.exceptions.InvalidMuscleEnumException;
+import com.dev.logBook.services.exceptions.AuthenticationBusyException;
+import com.dev.logBook.services.exceptions.InvalidAnalyticsQueryException;
+import com.dev.logBook.services.exceptions.InvalidCursorException;
+import com.dev.logBook.services.exceptions.InvalidTokenException;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
+import com.dev.logBook.services.exceptions.TooManyRequestsException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -46,6 +53,16 @@ public class ExceptionHandlers {
         return ResponseEntity.status(status).body(err);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<StandardError> ConstraintViolationException
+            (ConstraintViolationException e, HttpServletRequest request) {
+        String error = "Invalid arguments";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<StandardError> ResourceNotFoundException
             (ResourceNotFoundException e, HttpServletRequest request) {
@@ -56,9 +73,9 @@ public class ExceptionHandlers {
         return ResponseEntity.status(status).body(err);
     }
 
-    @ExceptionHandler(UnauthorizedAccessException.class)
-    public ResponseEntity<StandardError> UnauthorizedAccessException
-            (UnauthorizedAccessException e, HttpServletRequest request) {
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<StandardError> AccessDeniedException
+            (AccessDeniedException e, HttpServletRequest request) {
         String error = "Access denied";
         HttpStatus status = HttpStatus.FORBIDDEN;
         StandardError err = new StandardError(Instant.now(), status.value(), error,
@@ -125,4 +142,54 @@ public class ExceptionHandlers {
                 e.getMessage(), request.getRequestURI());
         return ResponseEntity.status(status).body(err);
     }
+
+    @ExceptionHandler(AuthenticationBusyException.class)
+    public ResponseEntity<StandardError> AuthenticationBusyException
+            (AuthenticationBusyException e, HttpServletRequest request) {
+        String error = "Service busy";
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(err);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<StandardError> TooManyRequestsException
+            (TooManyRequestsException e, HttpServletRequest request) {
+        String error = "Too many requests";
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "60").body(err);
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<StandardError> InvalidTokenException
+            (InvalidTokenException e, HttpServletRequest request) {
+        String error = "Invalid token";
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<StandardError> InvalidCursorException
+            (InvalidCursorException e, HttpServletRequest request) {
+        String error = "Invalid cursor";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
+
+    @ExceptionHandler(InvalidAnalyticsQueryException.class)
+    public ResponseEntity<StandardError> InvalidAnalyticsQueryException
+            (InvalidAnalyticsQueryException e, HttpServletRequest request) {
+        String error = "Invalid input. Please provide valid data";
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        StandardError err = new StandardError(Instant.now(), status.value(), error,
+                e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(status).body(err);
+    }
 }
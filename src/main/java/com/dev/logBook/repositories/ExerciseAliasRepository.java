@@ -0,0 +1,9 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.ExerciseAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExerciseAliasRepository extends JpaRepository<ExerciseAlias, String> {
+}
@@ -0,0 +1,12 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.ExerciseCatalogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ExerciseCatalogRepository extends JpaRepository<ExerciseCatalogEntry, Integer> {
+    Optional<ExerciseCatalogEntry> findByNormalizedName(String normalizedName);
+}
@@ -1,13 +1,107 @@
 package com.dev.logBook.repositories;
 
+import com.dev.logBook.dtos.ExerciseRefDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
+import com.dev.logBook.dtos.SummarizedSetDto;
 import com.dev.logBook.entities.Exercise;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, UUID> {
+    Optional<Exercise> findByIdAndUserId(UUID id, UUID userId);
+
+    @EntityGraph(attributePaths = "workout")
     List<Exercise> findByUserId(UUID userId);
+
+    @Query("SELECT e FROM exercises e WHERE e.user.id = :userId " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Exercise> findFirstPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT e FROM exercises e WHERE e.user.id = :userId " +
+            "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Exercise> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                         @Param("createdAt") Long createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Query("SELECT new com.dev.logBook.dtos.ExerciseSetDto(e.id, e.name, e.reps, e.weight, " +
+            "e.rir, e.createdAt) " +
+            "FROM exercises e JOIN e.workout w " +
+            "WHERE w.id = :workoutId AND w.user.id = :userId " +
+            "AND (e.reps < w.lowerRepsRange OR e.reps > w.upperRepsRange)")
+    List<ExerciseSetDto> findOutsideRepsRangeByWorkoutId(@Param("workoutId") UUID workoutId,
+                                                         @Param("userId") UUID userId);
+
+    @Query("SELECT new com.dev.logBook.dtos.SummarizedSetDto(e.workout.id, e.catalogId, e.weight, e.reps) " +
+            "FROM exercises e WHERE e.id = :id AND e.user.id = :userId")
+    Optional<SummarizedSetDto> findSummarizedSetByIdAndUserId(@Param("id") UUID id,
+                                                              @Param("userId") UUID userId);
+
+    @Query("SELECT new com.dev.logBook.dtos.SummarizedSetDto(e.workout.id, e.catalogId, e.weight, e.reps) " +
+            "FROM exercises e WHERE e.workout.id IN :workoutIds")
+    List<SummarizedSetDto> findSummarizedSetsByWorkoutIdIn(@Param("workoutIds") Collection<UUID> workoutIds);
+
+    @Query("SELECT new com.dev.logBook.dtos.ExerciseRefDto(e.id, e.catalogId) FROM exercises e " +
+            "WHERE e.workout.id = :workoutId AND e.user.id = :userId AND e.catalogId IS NOT NULL")
+    List<ExerciseRefDto> findRefsByWorkoutIdAndUserId(@Param("workoutId") UUID workoutId,
+                                                      @Param("userId") UUID userId);
+
+    @Query("SELECT DISTINCT e.workout.id FROM exercises e " +
+            "WHERE e.catalogId = :catalogId AND e.workout.id IS NOT NULL ORDER BY e.workout.id")
+    List<UUID> findWorkoutIdsByCatalogId(@Param("catalogId") Integer catalogId);
+
+    @Query("SELECT new com.dev.logBook.dtos.SummarizedSetDto(e.workout.id, e.catalogId, e.weight, e.reps) " +
+            "FROM exercises e WHERE e.workout.id = :workoutId AND e.catalogId = :catalogId")
+    List<SummarizedSetDto> findSummarizedSetsByWorkoutIdAndCatalogId(@Param("workoutId") UUID workoutId,
+                                                                    @Param("catalogId") Integer catalogId);
+
+    // the best sets of a user and exercise, ties going to the earliest
+    @Query("SELECT new com.dev.logBook.dtos.ExerciseSetDto(e.id, e.name, e.reps, e.weight, " +
+            "e.rir, e.createdAt) " +
+            "FROM exercises e WHERE e.user.id = :userId AND e.catalogId = :catalogId " +
+            "AND e.weight IS NOT NULL ORDER BY e.weight DESC, e.createdAt, e.id")
+    List<ExerciseSetDto> findHeaviestSets(@Param("userId") UUID userId,
+                                          @Param("catalogId") Integer catalogId,
+                                          Pageable pageable);
+
+    @Query("SELECT new com.dev.logBook.dtos.ExerciseSetDto(e.id, e.name, e.reps, e.weight, " +
+            "e.rir, e.createdAt) " +
+            "FROM exercises e WHERE e.user.id = :userId AND e.catalogId = :catalogId " +
+            "AND e.e1rm IS NOT NULL ORDER BY e.e1rm DESC, e.createdAt, e.id")
+    List<ExerciseSetDto> findBestE1rmSets(@Param("userId") UUID userId,
+                                          @Param("catalogId") Integer catalogId,
+                                          Pageable pageable);
+
+    @Query("SELECT new com.dev.logBook.dtos.ExerciseSetDto(e.id, e.name, e.reps, e.weight, " +
+            "e.rir, e.createdAt) " +
+            "FROM exercises e WHERE e.user.id = :userId AND e.catalogId = :catalogId " +
+            "AND e.volume IS NOT NULL ORDER BY e.volume DESC, e.createdAt, e.id")
+    List<ExerciseSetDto> findBestVolumeSets(@Param("userId") UUID userId,
+                                            @Param("catalogId") Integer catalogId,
+                                            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM exercises e WHERE e.id = :id AND e.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM exercises e WHERE e.workout.id = :workoutId AND e.user.id = :userId")
+    int deleteByWorkoutIdAndUserId(@Param("workoutId") UUID workoutId,
+                                   @Param("userId") UUID userId);
+
+    @Modifying
+    @Query("UPDATE exercises e SET e.catalogId = :targetId WHERE e.catalogId = :sourceId")
+    int reassignCatalogId(@Param("sourceId") Integer sourceId, @Param("targetId") Integer targetId);
 }
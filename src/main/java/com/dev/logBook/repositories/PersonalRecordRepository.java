@@ -0,0 +1,25 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.PersonalRecord;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, PersonalRecord.Key> {
+    List<PersonalRecord> findByUserId(UUID userId);
+
+    List<PersonalRecord> findByCatalogId(Integer catalogId);
+
+    // serializes every write to the existing records of one user and exercise
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM personal_records r WHERE r.userId = :userId AND r.catalogId = :catalogId")
+    List<PersonalRecord> findForUpdate(@Param("userId") UUID userId,
+                                       @Param("catalogId") Integer catalogId);
+}
@@ -0,0 +1,31 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens r SET r.revoked = true WHERE r.id = :id AND r.revoked = false")
+    int revokeIfActive(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens r SET r.revoked = true WHERE r.user.id = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_tokens r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
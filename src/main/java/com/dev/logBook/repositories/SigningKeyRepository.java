@@ -0,0 +1,12 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.StoredSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<StoredSigningKey, String> {
+    List<StoredSigningKey> findByRetiredAtIsNullOrderByCreatedAt();
+}
@@ -2,11 +2,23 @@ package com.dev.logBook.repositories;
 
 import com.dev.logBook.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     User findByUsername(String username);
+
+    @Query("SELECT SUBSTRING(u.password, 5, 2) AS cost, COUNT(u) AS users " +
+            "FROM users u GROUP BY SUBSTRING(u.password, 5, 2)")
+    List<PasswordCostCount> countByPasswordCost();
+
+    interface PasswordCostCount {
+        String getCost();
+
+        long getUsers();
+    }
 }
@@ -0,0 +1,24 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.WorkoutExerciseSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WorkoutExerciseSummaryRepository
+        extends JpaRepository<WorkoutExerciseSummary, WorkoutExerciseSummary.Key> {
+    List<WorkoutExerciseSummary> findByWorkoutId(UUID workoutId);
+
+    List<WorkoutExerciseSummary> findByWorkoutIdIn(Collection<UUID> workoutIds);
+
+    @Modifying
+    @Query("DELETE FROM workout_exercise_summaries s WHERE s.workoutId = :workoutId")
+    int deleteByWorkoutId(@Param("workoutId") UUID workoutId);
+}
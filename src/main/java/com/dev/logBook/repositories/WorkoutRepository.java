@@ -1,8 +1,14 @@
 package com.dev.logBook.repositories;
 
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.enums.Muscles;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -12,9 +18,44 @@ import java.util.UUID;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, UUID> {
+    Optional<Workout> findByIdAndUserId(UUID id, UUID userId);
+
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    @EntityGraph(attributePaths = "exercises")
     List<Workout> findByUserId(UUID userId);
 
     Optional<Workout> findByDateAndMuscleAndUserId(LocalDate date, Muscles muscle, UUID userId);
 
+    @EntityGraph(attributePaths = "exercises")
     List<Workout> findByMuscleAndUserId(Muscles muscle, UUID userId);
+
+    Optional<Workout>
+    findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+            (UUID userId, Muscles muscle, int lowerRepsRange, int upperRepsRange, LocalDate date);
+
+    @Query("SELECT w FROM workouts w WHERE w.user.id = :userId ORDER BY w.date DESC, w.id DESC")
+    List<Workout> findFirstPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT w FROM workouts w WHERE w.user.id = :userId " +
+            "AND (w.date < :date OR (w.date = :date AND w.id < :id)) " +
+            "ORDER BY w.date DESC, w.id DESC")
+    List<Workout> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+    @Query("SELECT w.id FROM workouts w WHERE w.id > :after ORDER BY w.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT new com.dev.logBook.dtos.WorkoutSummaryDto(w.id, w.date, w.muscle, " +
+            "w.lowerRepsRange, w.upperRepsRange, COUNT(e.id)) " +
+            "FROM workouts w LEFT JOIN w.exercises e WHERE w.user.id = :userId " +
+            "GROUP BY w.id, w.date, w.muscle, w.lowerRepsRange, w.upperRepsRange " +
+            "ORDER BY w.date DESC")
+    List<WorkoutSummaryDto> findSummariesByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM workouts w WHERE w.id = :id AND w.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 }
@@ -0,0 +1,46 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.entities.WorkoutSummary;
+import com.dev.logBook.enums.Muscles;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WorkoutSummaryRepository extends JpaRepository<WorkoutSummary, UUID> {
+    Optional<WorkoutSummary> findByWorkoutIdAndUserId(UUID workoutId, UUID userId);
+
+    // serializes every write to the summaries of one workout
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM workout_summaries s WHERE s.workoutId = :workoutId")
+    Optional<WorkoutSummary> findForUpdate(@Param("workoutId") UUID workoutId);
+
+    @Query("SELECT new com.dev.logBook.dtos.VolumePointDto(s.date, s.totalVolume, s.setCount) " +
+            "FROM workout_summaries s WHERE s.userId = :userId AND s.muscle = :muscle " +
+            "AND s.date BETWEEN :from AND :to ORDER BY s.date")
+    List<VolumePointDto> findDailyVolume(@Param("userId") UUID userId,
+                                         @Param("muscle") Muscles muscle,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("UPDATE workout_summaries s SET s.muscle = :muscle, s.date = :date " +
+            "WHERE s.workoutId = :workoutId")
+    int updateMuscleAndDate(@Param("workoutId") UUID workoutId,
+                            @Param("muscle") Muscles muscle,
+                            @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM workout_summaries s WHERE s.workoutId = :workoutId")
+    int deleteByWorkoutId(@Param("workoutId") UUID workoutId);
+}
@@ -0,0 +1,51 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.entities.UserPrincipal;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.enums.VolumeBucket;
+import com.dev.logBook.repositories.WorkoutSummaryRepository;
+import com.dev.logBook.services.exceptions.InvalidAnalyticsQueryException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class AnalyticsService {
+
+    @Autowired
+    private WorkoutSummaryRepository workoutSummaryRepository;
+
+    // reads one summary row per training day, the exercises are never touched
+    public List<VolumePointDto> getVolume(Muscles muscle, LocalDate from, LocalDate to, VolumeBucket bucket) {
+        if (from.isAfter(to)) {
+            throw new InvalidAnalyticsQueryException("from (" + from + ") is after to (" + to + ")");
+        }
+        UserPrincipal user = getCurrentUser();
+        List<VolumePointDto> days = workoutSummaryRepository.findDailyVolume(user.getId(), muscle, from, to);
+
+        // days arrive ordered, so every bucket is a contiguous run of them
+        List<VolumePointDto> buckets = new ArrayList<>();
+        for (VolumePointDto day : days) {
+            LocalDate start = bucket.start(day.date());
+            int last = buckets.size() - 1;
+            if (last >= 0 && buckets.get(last).date().equals(start)) {
+                VolumePointDto current = buckets.get(last);
+                buckets.set(last, new VolumePointDto(start, current.volume().add(day.volume()),
+                        current.setCount() + day.setCount()));
+            } else {
+                buckets.add(new VolumePointDto(start, day.volume(), day.setCount()));
+            }
+        }
+        return buckets;
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication()
+                .getPrincipal();
+    }
+}
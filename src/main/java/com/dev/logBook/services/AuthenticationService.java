@@ -1,11 +1,21 @@
 package com.dev.logBook.services;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.dev.logBook.config.AuthRateLimiter;
 import com.dev.logBook.controller.dto.LoginDTO;
 import com.dev.logBook.controller.dto.RegisterDTO;
+import com.dev.logBook.entities.RefreshToken;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.repositories.RefreshTokenRepository;
 import com.dev.logBook.repositories.UserRepository;
+import com.dev.logBook.services.exceptions.AuthenticationBusyException;
+import com.dev.logBook.services.exceptions.InvalidTokenException;
+import com.dev.logBook.services.exceptions.TooManyRequestsException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
+import com.dev.logBook.services.utils.AuthTokens;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -13,13 +23,24 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
 @Service
-public class AuthenticationService implements UserDetailsService {
+public class AuthenticationService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
@@ -27,6 +48,12 @@ public class AuthenticationService implements UserDetailsService {
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -34,6 +61,15 @@ public class AuthenticationService implements UserDetailsService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AuthRateLimiter authRateLimiter;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username);
@@ -43,18 +79,34 @@ public class AuthenticationService implements UserDetailsService {
         return user;
     }
 
-    public String register(RegisterDTO register) {
+    // called by the authentication provider after a successful login whose hash
+    // was produced with a lower cost than the one the encoder is calibrated to
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+
+    public Map<String, Long> getPasswordCostDistribution() {
+        Map<String, Long> distribution = new TreeMap<>();
+        userRepository.countByPasswordCost().forEach(count ->
+                distribution.put(count.getCost(), count.getUsers()));
+        return distribution;
+    }
+
+    public AuthTokens register(RegisterDTO register) {
         try {
             User user = new User(register.getUsername(), register.getEmail(),
                     passwordEncoder.encode(register.getPassword()), Role.ROLE_USER);
             userRepository.save(user);
-            return tokenService.generateToken(user);
+            return issueTokens(user);
         } catch (DataIntegrityViolationException e) {
             throw new UniqueConstraintViolationError("user", "username or email");
         }
     }
 
-    public String login(LoginDTO login) {
+    public AuthTokens login(LoginDTO login) {
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                 new UsernamePasswordAuthenticationToken(login.getUsername(), login.getPassword());
 
@@ -63,6 +115,83 @@ public class AuthenticationService implements UserDetailsService {
 
         User user = (User) authentication.getPrincipal();
 
-        return tokenService.generateToken(user);
+        return issueTokens(user);
+    }
+
+    // a refresh token is single use: presenting one that was already rotated means it
+    // leaked, so every refresh token of its owner is revoked
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthTokens refresh(String refreshToken) {
+        RefreshToken stored = findRefreshToken(refreshToken);
+        if (stored.isRevoked() || refreshTokenRepository.revokeIfActive(stored.getId()) == 0) {
+            refreshTokenRepository.revokeAllByUserId(stored.getUser().getId());
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+        if (!stored.isUsable()) {
+            throw new InvalidTokenException("Refresh token expired");
+        }
+        return issueTokens(stored.getUser());
+    }
+
+    @Transactional
+    public void logout(DecodedJWT accessToken, String refreshToken) {
+        tokenRevocationService.revoke(accessToken.getId(), accessToken.getExpiresAtAsInstant());
+        if (refreshToken != null) {
+            refreshTokenRepository.findByTokenHash(TokenService.digest(refreshToken))
+                    .ifPresent(stored -> refreshTokenRepository.revokeIfActive(stored.getId()));
+        }
+    }
+
+    // expired rows can never be exchanged again, not even to detect a reuse worth reacting to
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private RefreshToken findRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new InvalidTokenException("Refresh token missing");
+        }
+        return refreshTokenRepository.findByTokenHash(TokenService.digest(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+    }
+
+    private AuthTokens issueTokens(User user) {
+        String refreshToken = tokenService.generateRefreshToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenService.digest(refreshToken))
+                .expiresAt(tokenService.getRefreshTokenExpiresAt())
+                .user(user)
+                .build());
+        return new AuthTokens(tokenService.generateToken(user), refreshToken);
+    }
+
+    public CompletableFuture<AuthTokens> registerAsync(RegisterDTO register) {
+        checkUsernameRateLimit(register.getUsername());
+        return submitHashingTask("register", () -> register(register));
+    }
+
+    public CompletableFuture<AuthTokens> loginAsync(LoginDTO login) {
+        checkUsernameRateLimit(login.getUsername());
+        return submitHashingTask("login", () -> login(login));
+    }
+
+    private void checkUsernameRateLimit(String username) {
+        if (!authRateLimiter.tryAcquireForUsername(username)) {
+            throw new TooManyRequestsException();
+        }
+    }
+
+    private CompletableFuture<AuthTokens> submitHashingTask(String operation,
+                                                            Supplier<AuthTokens> task) {
+        Timer timer = Timer.builder("auth.password.hashing")
+                .description("Time spent hashing or checking a password, queue wait excluded")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new AuthenticationBusyException();
+        }
     }
 }
@@ -0,0 +1,143 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.entities.ExerciseAlias;
+import com.dev.logBook.entities.ExerciseCatalogEntry;
+import com.dev.logBook.repositories.ExerciseAliasRepository;
+import com.dev.logBook.repositories.ExerciseCatalogRepository;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.services.exceptions.ResourceNotFoundException;
+import com.dev.logBook.services.utils.ExerciseNames;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ExerciseCatalogService {
+
+    @Autowired
+    private ExerciseCatalogRepository exerciseCatalogRepository;
+
+    @Autowired
+    private ExerciseAliasRepository exerciseAliasRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    // WorkoutSummaryService reads display names from here
+    @Lazy
+    @Autowired
+    private WorkoutSummaryService workoutSummaryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${exercise-catalog.cache-size:10000}")
+    private long cacheSize;
+
+    private Cache<String, Integer> idsByName;
+
+    private Cache<Integer, String> namesById;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void initCaches() {
+        idsByName = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        namesById = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByName, "exercise-catalog-ids");
+        CaffeineCacheMetrics.monitor(meterRegistry, namesById, "exercise-catalog-names");
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    // call before the write transaction starts, a new entry is inserted and committed on its own;
+    // the insert stays out of the cache's compute so a slow statement never blocks other names
+    public int resolve(String name) {
+        String normalized = ExerciseNames.normalize(name);
+        Integer cached = idsByName.getIfPresent(normalized);
+        if (cached != null) {
+            return cached;
+        }
+        int catalogId = lookupOrCreate(normalized, name);
+        idsByName.put(normalized, catalogId);
+        return catalogId;
+    }
+
+    public String getDisplayName(int catalogId) {
+        return namesById.get(catalogId, id -> exerciseCatalogRepository.findById(id)
+                .map(ExerciseCatalogEntry::getDisplayName)
+                .orElseThrow(() -> new ResourceNotFoundException(id)));
+    }
+
+    public int addAlias(String alias, String exerciseName) {
+        int catalogId = resolve(exerciseName);
+        String normalizedAlias = ExerciseNames.normalize(alias);
+        if (normalizedAlias.equals(ExerciseNames.normalize(exerciseName))) {
+            return catalogId;
+        }
+
+        transaction.executeWithoutResult(status -> {
+            // sets logged under the alias before it existed move to the canonical entry
+            exerciseCatalogRepository.findByNormalizedName(normalizedAlias)
+                    .filter(entry -> entry.getId() != catalogId)
+                    .ifPresent(entry -> {
+                        List<UUID> workoutIds = exerciseRepository.findWorkoutIdsByCatalogId(entry.getId());
+                        exerciseRepository.reassignCatalogId(entry.getId(), catalogId);
+                        workoutSummaryService.rebuildAll(workoutIds);
+                        personalRecordService.merge(entry.getId(), catalogId);
+                    });
+            exerciseAliasRepository.save(new ExerciseAlias(normalizedAlias, catalogId));
+            // a rolled back alias must not stay in the cache
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idsByName.put(normalizedAlias, catalogId);
+                }
+            });
+        });
+        return catalogId;
+    }
+
+    private Integer lookupOrCreate(String normalized, String name) {
+        return exerciseAliasRepository.findById(normalized)
+                .map(ExerciseAlias::getCatalogId)
+                .or(() -> exerciseCatalogRepository.findByNormalizedName(normalized)
+                        .map(ExerciseCatalogEntry::getId))
+                .orElseGet(() -> create(normalized, name));
+    }
+
+    // a concurrent insert of the same name only fails this statement, the winner is read back
+    private Integer create(String normalized, String name) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Exercise names must be resolved outside a transaction");
+        }
+        try {
+            return exerciseCatalogRepository
+                    .saveAndFlush(new ExerciseCatalogEntry(null, normalized, ExerciseNames.display(name)))
+                    .getId();
+        } catch (DataIntegrityViolationException e) {
+            return exerciseCatalogRepository.findByNormalizedName(normalized)
+                    .map(ExerciseCatalogEntry::getId)
+                    .orElseThrow(() -> e);
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.dev.logBook.services;
 
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
+import com.dev.logBook.dtos.SummarizedSetDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.UserPrincipal;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.UserRepository;
+import com.dev.logBook.repositories.WorkoutRepository;
+import com.dev.logBook.services.exceptions.InvalidCursorException;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
+import com.dev.logBook.services.utils.KeysetCursor;
+import com.dev.logBook.services.utils.OneRepMax;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
-import static com.dev.logBook.services.utils.CheckOwnership.checkOwnership;
-
 @Service
 public class ExerciseService {
 
@@ -22,58 +40,201 @@ public class ExerciseService {
     private ExerciseRepository exerciseRepository;
 
     @Autowired
-    private WorkoutService workoutService;
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @Autowired
+    private WorkoutSummaryService workoutSummaryService;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${pagination.max-size:100}")
+    private int maxPageSize;
 
+    // catalog ids are resolved before the write transaction starts, so inserting a new
+    // catalog entry never needs a second connection while this one is held, but only after
+    // the ownership check, a request against someone else's workout adds no catalog entries
     public Exercise create(ExerciseDto exerciseDto) {
-        User user = getCurrentUser();
-        Workout workout = workoutService.findById(exerciseDto.getWorkoutId());
+        UserPrincipal user = getCurrentUser();
+        requireOwnedWorkout(exerciseDto.getWorkoutId(), user);
+        int catalogId = exerciseCatalogService.resolve(exerciseDto.getName());
+        return write(status -> {
+            Workout workout = workoutRepository.getReferenceById(exerciseDto.getWorkoutId());
+
+            Exercise exercise = exerciseRepository.save(toExercise(exerciseDto, catalogId, workout,
+                    userRepository.getReferenceById(user.getId()), System.currentTimeMillis()));
+            workoutSummaryService.add(exerciseDto.getWorkoutId(),
+                    List.of(SummarizedSetDto.of(exerciseDto.getWorkoutId(), exercise)));
+            personalRecordService.offer(user.getId(), List.of(exercise));
+            return exercise;
+        });
+    }
 
-        Exercise exercise = Exercise.builder()
+    public List<Exercise> createBatch(UUID workoutId, List<ExerciseDto> exerciseDtos) {
+        exerciseDtos.forEach(exerciseDto -> exerciseDto.setWorkoutId(workoutId));
+        validate(exerciseDtos);
+        UserPrincipal user = getCurrentUser();
+        requireOwnedWorkout(workoutId, user);
+        List<Integer> catalogIds = exerciseDtos.stream()
+                .map(exerciseDto -> exerciseCatalogService.resolve(exerciseDto.getName()))
+                .toList();
+
+        return write(status -> {
+            Workout workout = workoutRepository.getReferenceById(workoutId);
+            User owner = userRepository.getReferenceById(user.getId());
+            long createdAt = System.currentTimeMillis();
+
+            List<Exercise> exercises = new ArrayList<>(exerciseDtos.size());
+            for (int i = 0; i < exerciseDtos.size(); i++) {
+                exercises.add(toExercise(exerciseDtos.get(i), catalogIds.get(i), workout, owner, createdAt));
+            }
+            List<Exercise> saved = exerciseRepository.saveAll(exercises);
+            workoutSummaryService.add(workoutId, saved.stream()
+                    .map(exercise -> SummarizedSetDto.of(workoutId, exercise))
+                    .toList());
+            personalRecordService.offer(user.getId(), saved);
+            return saved;
+        });
+    }
+
+    // two first sets of the same exercise race to insert its personal records, the loser
+    // fails on the primary key and runs once more, now finding the rows of the winner
+    private <T> T write(TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(action);
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(action);
+        }
+    }
+
+    // only the foreign key is needed, so the workout is never loaded
+    private void requireOwnedWorkout(UUID workoutId, UserPrincipal user) {
+        if (!workoutRepository.existsByIdAndUserId(workoutId, user.getId())) {
+            throw new ResourceNotFoundException(workoutId);
+        }
+    }
+
+    private void validate(List<ExerciseDto> exerciseDtos) {
+        Set<ConstraintViolation<ExerciseDto>> violations = new LinkedHashSet<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < exerciseDtos.size(); i++) {
+            for (ConstraintViolation<ExerciseDto> violation : validator.validate(exerciseDtos.get(i))) {
+                violations.add(violation);
+                errors.add("[" + i + "]." + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(errors.toString(), violations);
+        }
+    }
+
+    private Exercise toExercise(ExerciseDto exerciseDto, int catalogId, Workout workout, User user,
+                                long createdAt) {
+        return Exercise.builder()
                 .name(exerciseDto.getName())
+                .catalogId(catalogId)
                 .weight(exerciseDto.getWeight())
                 .reps(exerciseDto.getReps())
                 .rir(exerciseDto.getRir())
+                .e1rm(OneRepMax.estimate(exerciseDto.getWeight(), exerciseDto.getReps(), exerciseDto.getRir()))
+                .volume(OneRepMax.volume(exerciseDto.getWeight(), exerciseDto.getReps()))
                 .workout(workout)
                 .user(user)
-                .createdAt(System.currentTimeMillis())
+                .createdAt(createdAt)
                 .build();
-
-        return exerciseRepository.save(exercise);
     }
 
     public List<Exercise> findAll() {
-        User user = getCurrentUser();
+        UserPrincipal user = getCurrentUser();
         return exerciseRepository.findByUserId(user.getId());
     }
 
+    public CursorPage<Exercise> findPage(String cursor, int size) {
+        UserPrincipal user = getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Exercise> rows;
+        if (cursor == null) {
+            rows = exerciseRepository.findFirstPageByUserId(user.getId(), limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = exerciseRepository.findPageByUserIdAfter(user.getId(),
+                    parseCreatedAt(position), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, exercise ->
+                new KeysetCursor(String.valueOf(exercise.getCreatedAt()), exercise.getId()).encode());
+    }
+
+    private static Long parseCreatedAt(KeysetCursor cursor) {
+        try {
+            return Long.parseLong(cursor.position());
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor.encode());
+        }
+    }
+
     public Exercise findById(UUID id) {
-        User user = getCurrentUser();
-        Exercise exercise = exerciseRepository.findById(id)
+        UserPrincipal user = getCurrentUser();
+        return exerciseRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException(id));
-        checkOwnership(user, exercise.getUser().getId());
-        return exercise;
     }
 
     public Exercise update(UUID id, ExerciseDto exerciseDto) {
+        UserPrincipal user = getCurrentUser();
         Exercise entity = findById(id);
-        updateData(entity, exerciseDto);
-        return exerciseRepository.save(entity);
+        UUID workoutId = entity.getWorkout() == null ? null : entity.getWorkout().getId();
+        // taken before any attempt changes the entity, a retried write subtracts the same values
+        SummarizedSetDto before = SummarizedSetDto.of(workoutId, entity);
+        int catalogId = exerciseCatalogService.resolve(exerciseDto.getName());
+        return write(status -> {
+            updateData(entity, exerciseDto, catalogId);
+            Exercise exercise = exerciseRepository.save(entity);
+            if (workoutId != null) {
+                workoutSummaryService.replace(before, SummarizedSetDto.of(workoutId, exercise));
+            }
+            personalRecordService.retract(user.getId(), before.catalogId(), id);
+            personalRecordService.offer(user.getId(), List.of(exercise));
+            return exercise;
+        });
     }
 
+    // the deleted values are read first, the summary has to subtract them
+    @Transactional
     public void delete(UUID id) {
-        findById(id);
-        exerciseRepository.deleteById(id);
+        UserPrincipal user = getCurrentUser();
+        SummarizedSetDto set = exerciseRepository.findSummarizedSetByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException(id));
+        exerciseRepository.deleteByIdAndUserId(id, user.getId());
+        if (set.workoutId() != null) {
+            workoutSummaryService.remove(set);
+        }
+        personalRecordService.retract(user.getId(), set.catalogId(), id);
     }
 
-    private void updateData(Exercise entity, ExerciseDto obj) {
+    private void updateData(Exercise entity, ExerciseDto obj, int catalogId) {
         entity.setName(obj.getName());
+        entity.setCatalogId(catalogId);
         entity.setWeight(obj.getWeight());
         entity.setReps(obj.getReps());
         entity.setRir(obj.getRir());
+        entity.setE1rm(OneRepMax.estimate(obj.getWeight(), obj.getReps(), obj.getRir()));
+        entity.setVolume(OneRepMax.volume(obj.getWeight(), obj.getReps()));
     }
 
-    private User getCurrentUser() {
-        return (User) SecurityContextHolder.getContext().getAuthentication()
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication()
                 .getPrincipal();
     }
 }
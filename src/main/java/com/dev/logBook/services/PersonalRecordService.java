@@ -0,0 +1,209 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.dtos.ExerciseRecordsDto;
+import com.dev.logBook.dtos.ExerciseRefDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
+import com.dev.logBook.entities.Exercise;
+import com.dev.logBook.entities.ExerciseCatalogEntry;
+import com.dev.logBook.entities.PersonalRecord;
+import com.dev.logBook.entities.UserPrincipal;
+import com.dev.logBook.enums.RecordType;
+import com.dev.logBook.repositories.ExerciseCatalogRepository;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.PersonalRecordRepository;
+import com.dev.logBook.services.utils.OneRepMax;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class PersonalRecordService {
+
+    private static final PageRequest BEST = PageRequest.of(0, 1);
+
+    @Autowired
+    private PersonalRecordRepository personalRecordRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    // the repository and not ExerciseCatalogService, which calls merge from addAlias
+    @Autowired
+    private ExerciseCatalogRepository exerciseCatalogRepository;
+
+    // a set only replaces a record it beats, a later equal lift leaves the earlier one standing.
+    // The records of a new exercise are inserted right away; when a concurrent first set of the
+    // same exercise inserted them first, the primary key fails here and the caller retries the
+    // whole write, which then finds and locks them
+    @Transactional
+    public void offer(UUID userId, List<Exercise> exercises) {
+        exercises.stream()
+                .filter(exercise -> exercise.getCatalogId() != null && exercise.getWeight() != null)
+                .collect(Collectors.groupingBy(Exercise::getCatalogId))
+                .forEach((catalogId, sets) -> {
+                    Map<RecordType, PersonalRecord> records = lock(userId, catalogId);
+                    for (Exercise set : sets) {
+                        for (RecordType kind : RecordType.values()) {
+                            BigDecimal score = score(kind, set.getWeight(), set.getReps(), set.getRir());
+                            PersonalRecord record = records.get(kind);
+                            if (record != null && score.compareTo(record.getScore()) <= 0) {
+                                continue;
+                            }
+                            if (record == null) {
+                                record = PersonalRecord.builder()
+                                        .userId(userId)
+                                        .catalogId(catalogId)
+                                        .kind(kind)
+                                        .build();
+                                records.put(kind, record);
+                            }
+                            hold(record, set.getId(), set.getWeight(), set.getReps(), set.getRir(),
+                                    score, set.getCreatedAt());
+                        }
+                    }
+                    personalRecordRepository.saveAllAndFlush(records.values());
+                });
+    }
+
+    // call once the set is already changed or deleted; only the records it held are looked up again
+    @Transactional
+    public void retract(UUID userId, Integer catalogId, UUID exerciseId) {
+        retractHeld(userId, catalogId, Set.of(exerciseId));
+    }
+
+    // for bulk deletes, with the sets read before they went away
+    @Transactional
+    public void retractAll(UUID userId, List<ExerciseRefDto> deleted) {
+        deleted.stream()
+                .filter(exercise -> exercise.catalogId() != null)
+                .collect(Collectors.groupingBy(ExerciseRefDto::catalogId,
+                        Collectors.mapping(ExerciseRefDto::id, Collectors.toSet())))
+                .forEach((catalogId, exerciseIds) -> retractHeld(userId, catalogId, exerciseIds));
+    }
+
+    // the records of a merged alias compete with those of the entry it now points to
+    @Transactional
+    public void merge(int sourceId, int targetId) {
+        for (PersonalRecord source : personalRecordRepository.findByCatalogId(sourceId)) {
+            PersonalRecord.Key key = new PersonalRecord.Key(source.getUserId(), targetId, source.getKind());
+            Optional<PersonalRecord> target = personalRecordRepository.findById(key);
+            if (target.isEmpty() || beats(source, target.get())) {
+                PersonalRecord record = target.orElseGet(() -> PersonalRecord.builder()
+                        .userId(source.getUserId())
+                        .catalogId(targetId)
+                        .kind(source.getKind())
+                        .build());
+                hold(record, source.getExerciseId(), source.getWeight(), source.getReps(),
+                        source.getRir(), source.getScore(), source.getAchievedAt());
+                personalRecordRepository.save(record);
+            }
+            personalRecordRepository.delete(source);
+        }
+    }
+
+    // reads the index rows of the user, never the exercise history
+    public List<ExerciseRecordsDto> findAll() {
+        UserPrincipal user = getCurrentUser();
+        Map<Integer, Map<RecordType, PersonalRecord>> records = personalRecordRepository
+                .findByUserId(user.getId()).stream()
+                .collect(Collectors.groupingBy(PersonalRecord::getCatalogId, Collectors.toMap(
+                        PersonalRecord::getKind, Function.identity(),
+                        (first, second) -> first, () -> new EnumMap<>(RecordType.class))));
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, String> names = exerciseCatalogRepository.findAllById(records.keySet()).stream()
+                .collect(Collectors.toMap(ExerciseCatalogEntry::getId, ExerciseCatalogEntry::getDisplayName));
+        return records.entrySet().stream()
+                .map(entry -> new ExerciseRecordsDto(names.get(entry.getKey()),
+                        toDto(entry.getValue().get(RecordType.HEAVIEST_WEIGHT)),
+                        toDto(entry.getValue().get(RecordType.BEST_E1RM)),
+                        toDto(entry.getValue().get(RecordType.BEST_VOLUME_SET))))
+                .sorted(Comparator.comparing(ExerciseRecordsDto::name,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    private Map<RecordType, PersonalRecord> lock(UUID userId, Integer catalogId) {
+        Map<RecordType, PersonalRecord> records = new EnumMap<>(RecordType.class);
+        personalRecordRepository.findForUpdate(userId, catalogId)
+                .forEach(record -> records.put(record.getKind(), record));
+        return records;
+    }
+
+    private void retractHeld(UUID userId, Integer catalogId, Set<UUID> exerciseIds) {
+        if (catalogId == null) {
+            return;
+        }
+        lock(userId, catalogId).values().stream()
+                .filter(record -> exerciseIds.contains(record.getExerciseId()))
+                .forEach(this::replaceWithNextBest);
+    }
+
+    // one probe of the matching exercises index, which already reflects the change
+    private void replaceWithNextBest(PersonalRecord record) {
+        List<ExerciseSetDto> best = switch (record.getKind()) {
+            case HEAVIEST_WEIGHT -> exerciseRepository
+                    .findHeaviestSets(record.getUserId(), record.getCatalogId(), BEST);
+            case BEST_E1RM -> exerciseRepository
+                    .findBestE1rmSets(record.getUserId(), record.getCatalogId(), BEST);
+            case BEST_VOLUME_SET -> exerciseRepository
+                    .findBestVolumeSets(record.getUserId(), record.getCatalogId(), BEST);
+        };
+        if (best.isEmpty()) {
+            personalRecordRepository.delete(record);
+            return;
+        }
+        ExerciseSetDto set = best.get(0);
+        hold(record, set.id(), set.weight(), set.reps(), set.rir(),
+                score(record.getKind(), set.weight(), set.reps(), set.rir()), set.createdAt());
+    }
+
+    private static BigDecimal score(RecordType kind, BigDecimal weight, int reps, int rir) {
+        return switch (kind) {
+            case HEAVIEST_WEIGHT -> weight.setScale(OneRepMax.SCALE, RoundingMode.HALF_UP);
+            case BEST_E1RM -> OneRepMax.estimate(weight, reps, rir);
+            case BEST_VOLUME_SET -> OneRepMax.volume(weight, reps);
+        };
+    }
+
+    private static boolean beats(PersonalRecord challenger, PersonalRecord holder) {
+        int byScore = challenger.getScore().compareTo(holder.getScore());
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return challenger.getAchievedAt() != null && (holder.getAchievedAt() == null
+                || challenger.getAchievedAt() < holder.getAchievedAt());
+    }
+
+    private static void hold(PersonalRecord record, UUID exerciseId, BigDecimal weight, int reps,
+                             int rir, BigDecimal score, Long achievedAt) {
+        record.setExerciseId(exerciseId);
+        record.setWeight(weight.setScale(OneRepMax.SCALE, RoundingMode.HALF_UP));
+        record.setReps(reps);
+        record.setRir(rir);
+        record.setScore(score);
+        record.setAchievedAt(achievedAt);
+    }
+
+    private static ExerciseRecordsDto.RecordSetDto toDto(PersonalRecord record) {
+        if (record == null) {
+            return null;
+        }
+        return new ExerciseRecordsDto.RecordSetDto(record.getExerciseId(), record.getWeight(),
+                record.getReps(), record.getRir(), record.getScore(), record.getAchievedAt());
+    }
+
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication()
+                .getPrincipal();
+    }
+}
@@ -0,0 +1,76 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.listeners.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class PrincipalCacheService {
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final Counter staleReloads;
+
+    public PrincipalCacheService(@Value("${principal-cache.max-size:10000}") long maxSize,
+                                 @Value("${principal-cache.ttl-seconds:300}") long ttlSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+        this.staleReloads = Counter.builder("cache.principals.stale")
+                .description("Cached principals reloaded because the token is newer than the entry")
+                .register(meterRegistry);
+    }
+
+    public User get(String username, Instant tokenIssuedAt, Function<String, User> loader) {
+        CachedPrincipal cached = cache.getIfPresent(username);
+        if (cached != null) {
+            if (!cached.isOlderThan(tokenIssuedAt)) {
+                return cached.user();
+            }
+            staleReloads.increment();
+        }
+
+        User user = loader.apply(username);
+        if (user != null) {
+            cache.put(username, new CachedPrincipal(user, Instant.now()));
+        }
+        return user;
+    }
+
+    public void evict(UUID userId) {
+        cache.asMap().values().removeIf(cached -> cached.user().getId().equals(userId));
+    }
+
+    // evicting before the commit would let a concurrent request cache the old row again
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private record CachedPrincipal(User user, Instant loadedAt) {
+        // a token issued after the entry was loaded may follow a change we have not seen yet
+        boolean isOlderThan(Instant tokenIssuedAt) {
+            return tokenIssuedAt != null && tokenIssuedAt.isAfter(loadedAt);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.entities.RevokedToken;
+import com.dev.logBook.repositories.RevokedTokenRepository;
+import com.dev.logBook.services.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenRevocationService {
+
+    @Value("${revocation.expected-size:100000}")
+    private int expectedSize;
+
+    @Value("${revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    @PostConstruct
+    void loadRevokedTokens() {
+        BloomFilter filter = new BloomFilter(expectedSize, falsePositiveRate);
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(Instant.now())) {
+            revoked.put(token.getJti(), token.getExpiresAt());
+            filter.put(token.getJti());
+        }
+        bloomFilter = filter;
+        Gauge.builder("auth.revoked-tokens", revoked, Map::size)
+                .description("Access tokens revoked before their expiry")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+        revoked.put(jti, expiresAt);
+        bloomFilter.put(jti);
+    }
+
+    // expired entries can never pass verification again, so they are dropped and the
+    // filter is rebuilt to keep its false positive rate from creeping up
+    @Scheduled(fixedDelayString = "${revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        BloomFilter filter = new BloomFilter(Math.max(expectedSize, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(filter::put);
+        bloomFilter = filter;
+        // a revoke racing with the rebuild may have only reached the old filter
+        revoked.keySet().stream()
+                .filter(jti -> !filter.mightContain(jti))
+                .forEach(filter::put);
+    }
+}
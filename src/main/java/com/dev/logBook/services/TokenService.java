@@ -1,42 +1,283 @@
 package com.dev.logBook.services;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.dev.logBook.config.TokenPrincipal;
+import com.dev.logBook.entities.StoredSigningKey;
 import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.repositories.SigningKeyRepository;
+import com.dev.logBook.services.exceptions.ResourceNotFoundException;
+import com.dev.logBook.services.utils.SigningKeyRing;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class TokenService {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    @Value("${jwt.key-id:default}")
+    private String jwtKeyId;
+
+    // kid:secret pairs still accepted for verification after a rotation
+    @Value("${jwt.previous-secrets:}")
+    private String[] previousSecrets;
+
+    // a token with an unknown kid reloads the keys at most this often
+    @Value("${jwt.key-reload-min-interval-ms:1000}")
+    private long keyReloadMinIntervalMs;
+
     @Value("${token.expiration}")
     private long tokenExpiration;
 
+    @Value("${refresh-token.expiration:1209600}")
+    private long refreshTokenExpiration;
+
     @Value("${timezone.offset}")
     private String timezoneOffset;
 
+    @Value("${auth.claims-only:false}")
+    private boolean claimsOnly;
+
+    @Value("${token-cache.max-size:50000}")
+    private long tokenCacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SigningKeyRepository signingKeyRepository;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private volatile SigningKeyRing keyRing;
+
+    private volatile long keysLoadedAt;
+
+    private Cache<String, DecodedJWT> verifiedTokens;
+
+    @PostConstruct
+    void initTokenCache() {
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+    }
+
+    // the configured keys only seed signing_keys, a kid already stored keeps its row, so a
+    // restart neither undoes a rotation nor brings back a retired key
+    @PostConstruct
+    void initKeyRing() {
+        for (String entry : previousSecrets) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("jwt.previous-secrets entries must be kid:secret");
+            }
+            seed(entry.substring(0, separator), entry.substring(separator + 1), 0L);
+        }
+        seed(jwtKeyId, jwtSecret, System.currentTimeMillis());
+        reloadKeys();
+    }
+
+    private void seed(String kid, String secret, long createdAt) {
+        if (signingKeyRepository.existsById(kid)) {
+            return;
+        }
+        try {
+            signingKeyRepository.saveAndFlush(new StoredSigningKey(kid, secret, createdAt, null));
+        } catch (DataIntegrityViolationException e) {
+            // another node seeded it first
+        }
+    }
+
+    // picks up rotations and retirements made on other nodes
+    @Scheduled(fixedDelayString = "${jwt.key-refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.key-refresh-interval-ms:60000}")
+    public synchronized void reloadKeys() {
+        List<StoredSigningKey> keys = signingKeyRepository.findByRetiredAtIsNullOrderByCreatedAt();
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("No signing key left in signing_keys");
+        }
+        StoredSigningKey active = keys.get(keys.size() - 1);
+        Map<String, String> previous = new LinkedHashMap<>();
+        keys.subList(0, keys.size() - 1).forEach(key -> previous.put(key.getKid(), key.getSecret()));
+        SigningKeyRing reloaded = SigningKeyRing.of(active.getKid(), active.getSecret(), previous);
+        if (keyRing != null && !reloaded.keyIds().containsAll(keyRing.keyIds())) {
+            verifiedTokens.invalidateAll();
+        }
+        keyRing = reloaded;
+        keysLoadedAt = System.currentTimeMillis();
+    }
+
     public String generateToken(User user) {
-        return JWT.create()
-                .withIssuer("JWT")
+        SigningKeyRing.SigningKey signingKey = keyRing.active();
+        JWTCreator.Builder builder = JWT.create()
+                .withIssuer(SigningKeyRing.ISSUER)
+                .withKeyId(signingKey.kid())
+                .withJWTId(UUID.randomUUID().toString())
                 .withSubject(user.getUsername())
                 .withClaim("id", user.getId().toString())
                 .withIssuedAt(new Date(System.currentTimeMillis()))
                 .withExpiresAt(Date.from(LocalDateTime.now()
                         .plusSeconds(tokenExpiration)
-                        .toInstant(ZoneOffset.of(timezoneOffset)))
-                ).sign(Algorithm.HMAC256(jwtSecret));
+                        .toInstant(ZoneOffset.of(timezoneOffset))));
+        if (claimsOnly) {
+            builder.withClaim("role", user.getRole().name());
+        }
+        return builder.sign(signingKey.algorithm());
+    }
+
+    public String generateRefreshToken() {
+        return generateSecret();
+    }
+
+    public Instant getRefreshTokenExpiresAt() {
+        return Instant.now().plusSeconds(refreshTokenExpiration);
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
+    public boolean isClaimsOnly() {
+        return claimsOnly;
+    }
+
+    // tokens issued before claims-only mode was enabled lack the role claim
+    public TokenPrincipal getPrincipal(DecodedJWT decodedToken) {
+        String id = decodedToken.getClaim("id").asString();
+        String role = decodedToken.getClaim("role").asString();
+        if (id == null || role == null) {
+            return null;
+        }
+        return new TokenPrincipal(UUID.fromString(id), decodedToken.getSubject(), Role.valueOf(role));
     }
 
     public String getSubject(String token) {
-        return JWT.require(Algorithm.HMAC256(jwtSecret))
-                .withIssuer("JWT")
-                .build().verify(token).getSubject();
+        return verify(token).getSubject();
+    }
+
+    public DecodedJWT verify(String token) {
+        String digest = digest(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiresAtAsInstant().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        DecodedJWT unverified = JWT.decode(token);
+        if (isReloadDue(unverified.getKeyId())) {
+            reloadKeysFor(unverified.getKeyId());
+        }
+        DecodedJWT decoded = keyRing.verify(unverified);
+        if (decoded.getExpiresAtAsInstant() != null) {
+            verifiedTokens.put(digest, decoded);
+        }
+        return decoded;
+    }
+
+    private boolean isReloadDue(String kid) {
+        return !keyRing.hasKey(kid) && System.currentTimeMillis() - keysLoadedAt >= keyReloadMinIntervalMs;
+    }
+
+    // threads queued behind a reload check again, so a burst of forged kids costs one query
+    private synchronized void reloadKeysFor(String kid) {
+        if (isReloadDue(kid)) {
+            reloadKeys();
+        }
+    }
+
+    public void evictVerifiedToken(String token) {
+        verifiedTokens.invalidate(digest(token));
     }
 
+    // the secret never leaves the server, callers only learn the new kid
+    public synchronized String rotateKey() {
+        String kid = UUID.randomUUID().toString();
+        signingKeyRepository.saveAndFlush(new StoredSigningKey(kid, generateSecret(),
+                System.currentTimeMillis(), null));
+        reloadKeys();
+        return kid;
+    }
+
+    public synchronized void retireKey(String kid) {
+        reloadKeys();
+        if (keyRing.active().kid().equals(kid)) {
+            throw new IllegalArgumentException("The active signing key cannot be retired");
+        }
+        StoredSigningKey key = signingKeyRepository.findById(kid)
+                .orElseThrow(() -> new ResourceNotFoundException(kid));
+        if (key.getRetiredAt() == null) {
+            key.setRetiredAt(System.currentTimeMillis());
+            signingKeyRepository.saveAndFlush(key);
+        }
+        reloadKeys();
+    }
+
+    private String generateSecret() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public Set<String> getKeyIds() {
+        return keyRing.keyIds();
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, DecodedJWT> {
+        @Override
+        public long expireAfterCreate(String key, DecodedJWT value, long currentTime) {
+            long millisLeft = value.getExpiresAtAsInstant().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, millisLeft) * 1_000_000;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DecodedJWT value,
+                                      long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, DecodedJWT value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,34 +1,66 @@
 package com.dev.logBook.services;
 
+import com.dev.logBook.dtos.CursorPage;
+import com.dev.logBook.dtos.ExerciseRefDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
 import com.dev.logBook.dtos.WorkoutDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.UserPrincipal;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.UserRepository;
 import com.dev.logBook.repositories.WorkoutRepository;
+import com.dev.logBook.services.exceptions.InvalidCursorException;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
 import com.dev.logBook.services.utils.ExerciseComparator;
+import com.dev.logBook.services.utils.KeysetCursor;
+import com.dev.logBook.services.utils.WorkoutComparison;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
-import static com.dev.logBook.services.utils.CheckOwnership.checkOwnership;
-
 @Service
 public class WorkoutService {
 
     @Autowired
     private WorkoutRepository workoutRepository;
 
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @Autowired
+    private WorkoutSummaryService workoutSummaryService;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @Value("${pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Transactional
     public Workout create(WorkoutDto workoutDTO) {
         try {
-            User user = getCurrentUser();
+            User user = getCurrentUserReference();
             Workout workout = Workout.builder()
                     .date(workoutDTO.getDate())
                     .muscle(workoutDTO.getMuscle())
@@ -36,42 +68,83 @@ public class WorkoutService {
                     .lowerRepsRange(workoutDTO.getLowerRepsRange())
                     .upperRepsRange(workoutDTO.getUpperRepsRange())
                     .build();
-            return workoutRepository.save(workout);
+            // flushed here so a duplicate surfaces inside the catch
+            Workout saved = workoutRepository.saveAndFlush(workout);
+            workoutSummaryService.initialize(saved);
+            return saved;
         } catch (DataIntegrityViolationException e) {
             throw new UniqueConstraintViolationError("workout", "date");
         }
     }
 
     public List<Workout> findAll() {
-        User user = getCurrentUser();
+        UserPrincipal user = getCurrentUser();
         return workoutRepository.findByUserId(user.getId());
     }
 
+    public List<WorkoutSummaryDto> findSummaries() {
+        UserPrincipal user = getCurrentUser();
+        return workoutRepository.findSummariesByUserId(user.getId());
+    }
+
+    public CursorPage<Workout> findPage(String cursor, int size) {
+        UserPrincipal user = getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Workout> rows;
+        if (cursor == null) {
+            rows = workoutRepository.findFirstPageByUserId(user.getId(), limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = workoutRepository.findPageByUserIdAfter(user.getId(),
+                    parseDate(position), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, workout ->
+                new KeysetCursor(workout.getDate().toString(), workout.getId()).encode());
+    }
+
+    private static LocalDate parseDate(KeysetCursor cursor) {
+        try {
+            return LocalDate.parse(cursor.position());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(cursor.encode());
+        }
+    }
+
     public Workout findById(UUID id) {
-        User user = getCurrentUser();
-        Workout workout = workoutRepository.findById(id)
+        UserPrincipal user = getCurrentUser();
+        return workoutRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException(id));
-        checkOwnership(user, workout.getUser().getId());
-        return workout;
     }
 
     public Workout findByDateAndMuscle(LocalDate date, Muscles muscle) {
-        User user = getCurrentUser();
-        Workout workout = workoutRepository.findByDateAndMuscleAndUserId(date, muscle, user.getId())
+        UserPrincipal user = getCurrentUser();
+        return workoutRepository.findByDateAndMuscleAndUserId(date, muscle, user.getId())
                 .orElseThrow(ResourceNotFoundException::new);
-        checkOwnership(user, workout.getUser().getId());
-        return workout;
     }
 
     public List<Workout> findWorkoutsByMuscle(Muscles muscle) {
-        User user = getCurrentUser();
+        UserPrincipal user = getCurrentUser();
         return workoutRepository.findByMuscleAndUserId(muscle, user.getId());
     }
 
+    public Workout findPreviousComparable(UUID id) {
+        UserPrincipal user = getCurrentUser();
+        Workout workout = findById(id);
+        return workoutRepository
+                .findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+                        (user.getId(), workout.getMuscle(), workout.getLowerRepsRange(),
+                                workout.getUpperRepsRange(), workout.getDate())
+                .orElseThrow(ResourceNotFoundException::new);
+    }
+
+    @Transactional
     public Workout update(UUID id, WorkoutDto workoutDto) {
         Workout workout = findById(id);
         updateData(workout, workoutDto);
-        return workoutRepository.save(workout);
+        Workout saved = workoutRepository.save(workout);
+        workoutSummaryService.move(id, workoutDto.getMuscle(), workoutDto.getDate());
+        return saved;
     }
 
     private void updateData(Workout entity, WorkoutDto obj) {
@@ -79,81 +152,57 @@ public class WorkoutService {
         entity.setMuscle(obj.getMuscle());
     }
 
+    // the summaries are keyed by workout alone, so ownership is checked before anything goes
+    @Transactional
     public void delete(UUID id) {
-        findById(id);
-        workoutRepository.deleteById(id);
+        UserPrincipal user = getCurrentUser();
+        requireOwnedWorkout(id, user);
+        List<ExerciseRefDto> deleted = exerciseRepository.findRefsByWorkoutIdAndUserId(id, user.getId());
+        exerciseRepository.deleteByWorkoutIdAndUserId(id, user.getId());
+        workoutSummaryService.delete(id);
+        if (workoutRepository.deleteByIdAndUserId(id, user.getId()) == 0) {
+            throw new ResourceNotFoundException(id);
+        }
+        personalRecordService.retractAll(user.getId(), deleted);
     }
 
-    public List<Exercise> getExercisesOutsideRepsRange(UUID workoutId) {
-        Workout workout = findById(workoutId);
-        List<Exercise> exercises = workout.getExercises();
-        List<Exercise> exercisesOutsideRepsRange = new ArrayList<>();
-        exercises.forEach(exercise -> {
-            if (exercise.getReps() < workout.getLowerRepsRange() ||
-                    exercise.getReps() > workout.getUpperRepsRange()) {
-                exercisesOutsideRepsRange.add(exercise);
-            }
-        });
-
-        return exercisesOutsideRepsRange;
+    public List<ExerciseSetDto> getExercisesOutsideRepsRange(UUID workoutId) {
+        UserPrincipal user = getCurrentUser();
+        List<ExerciseSetDto> exercises =
+                exerciseRepository.findOutsideRepsRangeByWorkoutId(workoutId, user.getId());
+        if (exercises.isEmpty()) {
+            requireOwnedWorkout(workoutId, user);
+        }
+        return exercises;
     }
 
     public HashMap<String, BigDecimal> calculateVolumeLoad(UUID workoutId) {
-        Workout workout = findById(workoutId);
-        List<Exercise> exercises = workout.getExercises();
-        HashMap<String, BigDecimal> result = new HashMap<>();
-        exercises.forEach(exercise -> {
-            String name = exercise.getName();
-            BigDecimal weight = exercise.getWeight();
-            int reps = exercise.getReps();
-            BigDecimal volume = weight.multiply(BigDecimal.valueOf(reps));
+        UserPrincipal user = getCurrentUser();
+        return workoutSummaryService.getVolumeLoad(workoutId, user.getId());
+    }
 
-            if (result.containsKey(name)) {
-                BigDecimal previousVolume = result.get(name);
-                volume = volume.add(previousVolume);
-            }
+    public WorkoutStatsDto getStats(UUID workoutId) {
+        UserPrincipal user = getCurrentUser();
+        return workoutSummaryService.getStats(workoutId, user.getId());
+    }
 
-            result.put(name, volume);
-        });
-        return result;
+    // an empty aggregate does not tell a workout without sets from someone else's workout
+    private void requireOwnedWorkout(UUID workoutId, UserPrincipal user) {
+        if (!workoutRepository.existsByIdAndUserId(workoutId, user.getId())) {
+            throw new ResourceNotFoundException(workoutId);
+        }
     }
 
     public List<ExerciseComparator> compareWorkouts(UUID oldWorkoutId, UUID currentWorkoutId) {
+        return diffWorkouts(oldWorkoutId, currentWorkoutId).differences();
+    }
+
+    public WorkoutComparison diffWorkouts(UUID oldWorkoutId, UUID currentWorkoutId) {
         List<Exercise> oldWorkoutExercises = getExercisesFromWorkout(oldWorkoutId);
         List<Exercise> currentWorkoutExercises = getExercisesFromWorkout(currentWorkoutId);
 
-        List<ExerciseComparator> result = new ArrayList<>();
-
-        for (Exercise oldExercise : oldWorkoutExercises) {
-            for (Exercise currentExercise : currentWorkoutExercises) {
-                if (oldExercise.getName().equalsIgnoreCase(currentExercise.getName())) {
-                    ExerciseComparator exerciseComparator = new ExerciseComparator();
-                    exerciseComparator.setName(currentExercise.getName());
-
-                    if (currentExercise.getReps() != oldExercise.getReps()) {
-                        int repsDifference = currentExercise.getReps() - oldExercise.getReps();
-                        exerciseComparator.setRepsDifference(repsDifference);
-                    }
-
-                    if (!Objects.equals(currentExercise.getWeight(), oldExercise.getWeight())) {
-                        BigDecimal currentWeight = currentExercise.getWeight();
-                        BigDecimal oldWeight = oldExercise.getWeight();
-                        BigDecimal weightDifference = currentWeight.subtract(oldWeight);
-                        exerciseComparator.setWeightDifference(weightDifference);
-                    }
-
-                    if (currentExercise.getRir() != oldExercise.getRir()) {
-                        int rirDifference = currentExercise.getRir() - oldExercise.getRir();
-                        exerciseComparator.setRirDifference(rirDifference);
-                    }
-
-                    result.add(exerciseComparator);
-                    break;
-                }
-            }
-        }
-
-        return result;
+        return WorkoutComparison.of(oldWorkoutExercises, currentWorkoutExercises,
+                exerciseCatalogService::getDisplayName);
     }
 
     public List<Exercise> getUniqueWorkoutExercises
@@ -161,35 +210,20 @@ public class WorkoutService {
         List<Exercise> mainWorkoutExercises = getExercisesFromWorkout(preservedExercises);
         List<Exercise> comparisonWorkoutExercises = getExercisesFromWorkout(comparisonExercises);
 
-        return getUniqueExercises(mainWorkoutExercises, comparisonWorkoutExercises);
-    }
-
-    private List<Exercise> getUniqueExercises
-            (List<Exercise> preservedExercises, List<Exercise> comparisonExercises) {
-        List<Exercise> exercises = new ArrayList<>(preservedExercises);
-        List<Exercise> otherExercises = new ArrayList<>(comparisonExercises);
-
-        Iterator<Exercise> iterator = exercises.iterator();
-        while (iterator.hasNext()) {
-            Exercise currentExercise = iterator.next();
-            for (Exercise exercise : otherExercises) {
-                if (exercise.getName().equalsIgnoreCase(currentExercise.getName())) {
-                    iterator.remove();
-                    otherExercises.remove(exercise);
-                    break;
-                }
-            }
-        }
-
-        return exercises;
+        return WorkoutComparison.of(mainWorkoutExercises, comparisonWorkoutExercises,
+                exerciseCatalogService::getDisplayName).oldOnly();
     }
 
     private List<Exercise> getExercisesFromWorkout(UUID workoutId) {
         return findById(workoutId).getExercises();
     }
 
-    private User getCurrentUser() {
-        return (User) SecurityContextHolder.getContext().getAuthentication()
+    private UserPrincipal getCurrentUser() {
+        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication()
                 .getPrincipal();
     }
+
+    private User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUser().getId());
+    }
 }
@@ -0,0 +1,385 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.dtos.SummarizedSetDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.entities.Workout;
+import com.dev.logBook.entities.WorkoutExerciseSummary;
+import com.dev.logBook.entities.WorkoutSummary;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.WorkoutExerciseSummaryRepository;
+import com.dev.logBook.repositories.WorkoutRepository;
+import com.dev.logBook.repositories.WorkoutSummaryRepository;
+import com.dev.logBook.services.exceptions.ResourceNotFoundException;
+import com.dev.logBook.services.utils.VolumeAccumulator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class WorkoutSummaryService {
+
+    // exercises.weight is numeric(38, 2) and rounds on insert
+    private static final int WEIGHT_SCALE = 2;
+
+    private static final BigDecimal ZERO = BigDecimal.ZERO.setScale(WEIGHT_SCALE);
+
+    @Autowired
+    private WorkoutSummaryRepository workoutSummaryRepository;
+
+    @Autowired
+    private WorkoutExerciseSummaryRepository workoutExerciseSummaryRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${workout-summary.verify-batch-size:100}")
+    private int verifyBatchSize;
+
+    private Counter repairs;
+
+    private TransactionTemplate newTransaction;
+
+    @PostConstruct
+    void init() {
+        repairs = meterRegistry.counter("workout-summary.repairs");
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void initialize(Workout workout) {
+        workoutSummaryRepository.save(emptySummary(workout));
+    }
+
+    public void move(UUID workoutId, Muscles muscle, LocalDate date) {
+        workoutSummaryRepository.updateMuscleAndDate(workoutId, muscle, date);
+    }
+
+    @Transactional
+    public void add(UUID workoutId, List<SummarizedSetDto> sets) {
+        lockOrRebuild(workoutId).ifPresent(summary -> sets.forEach(set -> addSet(summary, set)));
+    }
+
+    @Transactional
+    public void remove(SummarizedSetDto set) {
+        lockOrRebuild(set.workoutId()).ifPresent(summary -> removeSet(summary, set));
+    }
+
+    @Transactional
+    public void replace(SummarizedSetDto before, SummarizedSetDto after) {
+        lockOrRebuild(after.workoutId()).ifPresent(summary -> {
+            removeSet(summary, before);
+            addSet(summary, after);
+        });
+    }
+
+    // for exercises already moved to another catalog entry, their rows are recomputed under the new id
+    @Transactional
+    public void rebuildAll(List<UUID> workoutIds) {
+        workoutIds.forEach(workoutId -> {
+            workoutSummaryRepository.findForUpdate(workoutId);
+            rebuild(workoutId);
+        });
+    }
+
+    public void delete(UUID workoutId) {
+        workoutExerciseSummaryRepository.deleteByWorkoutId(workoutId);
+        workoutSummaryRepository.deleteByWorkoutId(workoutId);
+    }
+
+    public WorkoutStatsDto getStats(UUID workoutId, UUID userId) {
+        WorkoutSummary summary = findSummary(workoutId, userId);
+        List<WorkoutStatsDto.ExerciseStatsDto> exercises = workoutExerciseSummaryRepository
+                .findByWorkoutId(workoutId).stream()
+                .map(exercise -> new WorkoutStatsDto.ExerciseStatsDto(
+                        exerciseCatalogService.getDisplayName(exercise.getCatalogId()),
+                        exercise.getSetCount(), exercise.getVolume(),
+                        exercise.getTopSetWeight(), exercise.getTopSetReps()))
+                .toList();
+        return new WorkoutStatsDto(summary.getSetCount(), summary.getOutOfRangeCount(),
+                summary.getTotalVolume(), exercises);
+    }
+
+    public HashMap<String, BigDecimal> getVolumeLoad(UUID workoutId, UUID userId) {
+        findSummary(workoutId, userId);
+        HashMap<String, BigDecimal> result = new HashMap<>();
+        workoutExerciseSummaryRepository.findByWorkoutId(workoutId).forEach(exercise ->
+                result.merge(exerciseCatalogService.getDisplayName(exercise.getCatalogId()),
+                        exercise.getVolume(), BigDecimal::add));
+        return result;
+    }
+
+    // a summary lost to drift is rebuilt on read instead of hiding an owned workout
+    private WorkoutSummary findSummary(UUID workoutId, UUID userId) {
+        return workoutSummaryRepository.findByWorkoutIdAndUserId(workoutId, userId)
+                .or(() -> {
+                    if (!workoutRepository.existsByIdAndUserId(workoutId, userId)) {
+                        return Optional.empty();
+                    }
+                    repair(workoutId);
+                    return workoutSummaryRepository.findByWorkoutIdAndUserId(workoutId, userId);
+                })
+                .orElseThrow(() -> new ResourceNotFoundException(workoutId));
+    }
+
+    // compares every summary against its exercise rows, a batch of workouts at a time
+    @Scheduled(fixedDelayString = "${workout-summary.verify-interval-ms:3600000}",
+            initialDelayString = "${workout-summary.verify-interval-ms:3600000}")
+    public void verify() {
+        UUID after = new UUID(0, 0);
+        List<UUID> workoutIds;
+        do {
+            workoutIds = workoutRepository.findIdsAfter(after, PageRequest.of(0, verifyBatchSize));
+            findDrifted(workoutIds).forEach(this::repair);
+            if (!workoutIds.isEmpty()) {
+                after = workoutIds.get(workoutIds.size() - 1);
+            }
+        } while (workoutIds.size() == verifyBatchSize);
+    }
+
+    private List<UUID> findDrifted(List<UUID> workoutIds) {
+        if (workoutIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, WorkoutSummary> summaries = workoutSummaryRepository.findAllById(workoutIds).stream()
+                .collect(Collectors.toMap(WorkoutSummary::getWorkoutId, Function.identity()));
+        Map<UUID, List<WorkoutExerciseSummary>> exercises = workoutExerciseSummaryRepository
+                .findByWorkoutIdIn(workoutIds).stream()
+                .collect(Collectors.groupingBy(WorkoutExerciseSummary::getWorkoutId));
+        Map<UUID, List<SummarizedSetDto>> sets = exerciseRepository
+                .findSummarizedSetsByWorkoutIdIn(workoutIds).stream()
+                .collect(Collectors.groupingBy(SummarizedSetDto::workoutId));
+
+        return workoutIds.stream()
+                .filter(workoutId -> {
+                    WorkoutSummary summary = summaries.get(workoutId);
+                    if (summary == null) {
+                        return true;
+                    }
+                    WorkoutSummary expected = emptyCopy(summary);
+                    Map<Integer, WorkoutExerciseSummary> expectedExercises =
+                            summarize(expected, sets.getOrDefault(workoutId, List.of()));
+                    return !matches(expected, expectedExercises, summary,
+                            exercises.getOrDefault(workoutId, List.of()));
+                })
+                .toList();
+    }
+
+    private void repair(UUID workoutId) {
+        newTransaction.executeWithoutResult(status -> {
+            workoutSummaryRepository.findForUpdate(workoutId);
+            rebuild(workoutId);
+        });
+        repairs.increment();
+    }
+
+    // an absent summary is rebuilt from the rows, which already hold the change being applied
+    private Optional<WorkoutSummary> lockOrRebuild(UUID workoutId) {
+        Optional<WorkoutSummary> summary = workoutSummaryRepository.findForUpdate(workoutId);
+        if (summary.isEmpty()) {
+            rebuild(workoutId);
+        }
+        return summary;
+    }
+
+    private void rebuild(UUID workoutId) {
+        Workout workout = workoutRepository.findById(workoutId).orElse(null);
+        if (workout == null || workout.getUser() == null) {
+            return;
+        }
+        WorkoutSummary summary = emptySummary(workout);
+        Map<Integer, WorkoutExerciseSummary> expected =
+                summarize(summary, exerciseRepository.findSummarizedSetsByWorkoutIdIn(List.of(workoutId)));
+        workoutSummaryRepository.save(summary);
+
+        // existing rows are overwritten in place so the persistence context never
+        // sees a removed and a new entity under the same key
+        for (WorkoutExerciseSummary existing : workoutExerciseSummaryRepository.findByWorkoutId(workoutId)) {
+            WorkoutExerciseSummary replacement = expected.remove(existing.getCatalogId());
+            if (replacement == null) {
+                workoutExerciseSummaryRepository.delete(existing);
+            } else {
+                existing.setSetCount(replacement.getSetCount());
+                existing.setVolume(replacement.getVolume());
+                existing.setTopSetWeight(replacement.getTopSetWeight());
+                existing.setTopSetReps(replacement.getTopSetReps());
+            }
+        }
+        workoutExerciseSummaryRepository.saveAll(expected.values());
+    }
+
+    private void addSet(WorkoutSummary summary, SummarizedSetDto set) {
+        addToTotals(summary, set, 1);
+        if (set.catalogId() == null) {
+            return;
+        }
+        WorkoutExerciseSummary exercise = workoutExerciseSummaryRepository
+                .findById(new WorkoutExerciseSummary.Key(summary.getWorkoutId(), set.catalogId()))
+                .orElseGet(() -> emptyExerciseSummary(summary.getWorkoutId(), set.catalogId()));
+        addToExercise(exercise, set);
+        workoutExerciseSummaryRepository.save(exercise);
+    }
+
+    private void removeSet(WorkoutSummary summary, SummarizedSetDto set) {
+        addToTotals(summary, set, -1);
+        if (set.catalogId() == null) {
+            return;
+        }
+        Optional<WorkoutExerciseSummary> found = workoutExerciseSummaryRepository
+                .findById(new WorkoutExerciseSummary.Key(summary.getWorkoutId(), set.catalogId()));
+        if (found.isEmpty()) {
+            return;
+        }
+        WorkoutExerciseSummary exercise = found.get();
+        if (exercise.getSetCount() <= 1) {
+            workoutExerciseSummaryRepository.delete(exercise);
+            return;
+        }
+
+        BigDecimal weight = weightOf(set);
+        exercise.setSetCount(exercise.getSetCount() - 1);
+        exercise.setVolume(exercise.getVolume().subtract(volumeOf(weight, set.reps())));
+        if (weight.compareTo(exercise.getTopSetWeight()) == 0 && set.reps() == exercise.getTopSetReps()) {
+            // the top set is gone, the next best one can only come from the remaining rows
+            exercise.setTopSetWeight(ZERO);
+            exercise.setTopSetReps(0);
+            exerciseRepository.findSummarizedSetsByWorkoutIdAndCatalogId(summary.getWorkoutId(),
+                    set.catalogId()).forEach(remaining -> raiseTopSet(exercise, remaining));
+        }
+    }
+
+    // rebuilds and drift checks go over every set of a workout, so the exercise volumes are
+    // summed in scaled longs and become BigDecimal once per exercise instead of once per set
+    private static Map<Integer, WorkoutExerciseSummary> summarize(WorkoutSummary summary,
+                                                                 List<SummarizedSetDto> sets) {
+        Map<Integer, WorkoutExerciseSummary> exercises = new HashMap<>();
+        VolumeAccumulator volumes = new VolumeAccumulator(sets.size());
+        for (SummarizedSetDto set : sets) {
+            addToTotals(summary, set, 1);
+            if (set.catalogId() == null) {
+                continue;
+            }
+            WorkoutExerciseSummary exercise = exercises.computeIfAbsent(set.catalogId(),
+                    catalogId -> emptyExerciseSummary(summary.getWorkoutId(), catalogId));
+            exercise.setSetCount(exercise.getSetCount() + 1);
+            raiseTopSet(exercise, set);
+            volumes.add(set.catalogId(), weightOf(set), set.reps());
+        }
+        volumes.forEach((catalogId, volume) -> exercises.get(catalogId).setVolume(volume));
+        return exercises;
+    }
+
+    private static void addToTotals(WorkoutSummary summary, SummarizedSetDto set, int sign) {
+        summary.setSetCount(summary.getSetCount() + sign);
+        summary.setTotalVolume(summary.getTotalVolume()
+                .add(volumeOf(weightOf(set), set.reps()).multiply(BigDecimal.valueOf(sign))));
+        if (set.reps() < summary.getLowerRepsRange() || set.reps() > summary.getUpperRepsRange()) {
+            summary.setOutOfRangeCount(summary.getOutOfRangeCount() + sign);
+        }
+    }
+
+    private static void addToExercise(WorkoutExerciseSummary exercise, SummarizedSetDto set) {
+        exercise.setSetCount(exercise.getSetCount() + 1);
+        exercise.setVolume(exercise.getVolume().add(volumeOf(weightOf(set), set.reps())));
+        raiseTopSet(exercise, set);
+    }
+
+    private static void raiseTopSet(WorkoutExerciseSummary exercise, SummarizedSetDto set) {
+        BigDecimal weight = weightOf(set);
+        int comparison = weight.compareTo(exercise.getTopSetWeight());
+        if (comparison > 0 || (comparison == 0 && set.reps() > exercise.getTopSetReps())) {
+            exercise.setTopSetWeight(weight);
+            exercise.setTopSetReps(set.reps());
+        }
+    }
+
+    private static boolean matches(WorkoutSummary expected, Map<Integer, WorkoutExerciseSummary> expectedExercises,
+                                   WorkoutSummary actual, List<WorkoutExerciseSummary> actualExercises) {
+        if (expected.getSetCount() != actual.getSetCount()
+                || expected.getOutOfRangeCount() != actual.getOutOfRangeCount()
+                || expected.getTotalVolume().compareTo(actual.getTotalVolume()) != 0
+                || expectedExercises.size() != actualExercises.size()) {
+            return false;
+        }
+        for (WorkoutExerciseSummary exercise : actualExercises) {
+            WorkoutExerciseSummary other = expectedExercises.get(exercise.getCatalogId());
+            if (other == null
+                    || other.getSetCount() != exercise.getSetCount()
+                    || other.getVolume().compareTo(exercise.getVolume()) != 0
+                    || other.getTopSetWeight().compareTo(exercise.getTopSetWeight()) != 0
+                    || other.getTopSetReps() != exercise.getTopSetReps()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static WorkoutSummary emptyCopy(WorkoutSummary summary) {
+        return WorkoutSummary.builder()
+                .workoutId(summary.getWorkoutId())
+                .userId(summary.getUserId())
+                .lowerRepsRange(summary.getLowerRepsRange())
+                .upperRepsRange(summary.getUpperRepsRange())
+                .muscle(summary.getMuscle())
+                .date(summary.getDate())
+                .totalVolume(ZERO)
+                .build();
+    }
+
+    private static WorkoutSummary emptySummary(Workout workout) {
+        return WorkoutSummary.builder()
+                .workoutId(workout.getId())
+                .userId(workout.getUser().getId())
+                .lowerRepsRange(workout.getLowerRepsRange())
+                .upperRepsRange(workout.getUpperRepsRange())
+                .muscle(workout.getMuscle())
+                .date(workout.getDate())
+                .totalVolume(ZERO)
+                .build();
+    }
+
+    private static WorkoutExerciseSummary emptyExerciseSummary(UUID workoutId, Integer catalogId) {
+        return WorkoutExerciseSummary.builder()
+                .workoutId(workoutId)
+                .catalogId(catalogId)
+                .volume(ZERO)
+                .topSetWeight(ZERO)
+                .build();
+    }
+
+    private static BigDecimal weightOf(SummarizedSetDto set) {
+        return set.weight() == null ? ZERO : set.weight().setScale(WEIGHT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal volumeOf(BigDecimal weight, int reps) {
+        return weight.multiply(BigDecimal.valueOf(reps));
+    }
+}
@@ -0,0 +1,7 @@
+package com.dev.logBook.services.exceptions;
+
+public class AuthenticationBusyException extends RuntimeException {
+    public AuthenticationBusyException() {
+        super("Too many authentication requests are being processed. Please try again shortly.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.dev.logBook.services.exceptions;
+
+public class InvalidAnalyticsQueryException extends RuntimeException {
+    public InvalidAnalyticsQueryException(String message) {
+        super(message);
+    }
+}
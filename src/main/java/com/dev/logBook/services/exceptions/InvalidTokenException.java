@@ -0,0 +1,7 @@
+package com.dev.logBook.services.exceptions;
+
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String msg) {
+        super(msg);
+    }
+}
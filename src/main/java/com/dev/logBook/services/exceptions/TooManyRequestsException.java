@@ -0,0 +1,7 @@
+package com.dev.logBook.services.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException() {
+        super("Too many attempts. Please wait before trying again.");
+    }
+}
@@ -0,0 +1,4 @@
+package com.dev.logBook.services.utils;
+
+public record AuthTokens(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,25 @@
+package com.dev.logBook.services.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class ExerciseNames {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s_-]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ExerciseNames() {
+    }
+
+    // "Bench-Press", " bench  press " and "BENCH_PRESS" all share one catalog entry
+    public static String normalize(String name) {
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+    }
+
+    public static String display(String name) {
+        return WHITESPACE.matcher(Normalizer.normalize(name, Normalizer.Form.NFKC))
+                .replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,50 @@
+package com.dev.logBook.services.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Estimated one-rep max of a set. Reps in reserve count as reps the lifter could still have
+ * done, so 100 x 5 at 2 RIR is estimated like 100 x 7 to failure. Brzycki is used up to ten
+ * reps to failure and Epley above that, where Brzycki overshoots and finally divides by zero.
+ * V7__personal_records.sql backfills existing sets with the same formulas.
+ */
+public final class OneRepMax {
+
+    // exercises.weight, e1rm and volume are all numeric(38, 2)
+    public static final int SCALE = 2;
+
+    private static final int BRZYCKI_MAX_REPS = 10;
+    private static final BigDecimal THIRTY = BigDecimal.valueOf(30);
+    private static final BigDecimal THIRTY_SIX = BigDecimal.valueOf(36);
+
+    private OneRepMax() {
+    }
+
+    public static BigDecimal estimate(BigDecimal weight, int reps, int rir) {
+        if (weight == null) {
+            return null;
+        }
+        BigDecimal load = weight.setScale(SCALE, RoundingMode.HALF_UP);
+        if (reps <= 0) {
+            return BigDecimal.ZERO.setScale(SCALE);
+        }
+        int toFailure = reps + rir;
+        if (toFailure == 1) {
+            return load;
+        }
+        if (toFailure <= BRZYCKI_MAX_REPS) {
+            return load.multiply(THIRTY_SIX)
+                    .divide(BigDecimal.valueOf(37 - toFailure), SCALE, RoundingMode.HALF_UP);
+        }
+        return load.multiply(BigDecimal.valueOf(30 + toFailure))
+                .divide(THIRTY, SCALE, RoundingMode.HALF_UP);
+    }
+
+    public static BigDecimal volume(BigDecimal weight, int reps) {
+        if (weight == null) {
+            return null;
+        }
+        return weight.setScale(SCALE, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(reps));
+    }
+}
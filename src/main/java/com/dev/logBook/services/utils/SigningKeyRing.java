@@ -0,0 +1,75 @@
+package com.dev.logBook.services.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of HMAC keys. The active key signs new tokens, every key can verify
+ * tokens carrying its id in the {@code kid} header. A rotation builds a new ring, so
+ * readers never see a partially updated one.
+ */
+public final class SigningKeyRing {
+
+    public static final String ISSUER = "JWT";
+
+    private final SigningKey active;
+    private final Map<String, SigningKey> keys;
+
+    private SigningKeyRing(SigningKey active, Map<String, SigningKey> keys) {
+        this.active = active;
+        this.keys = Collections.unmodifiableMap(keys);
+    }
+
+    public static SigningKeyRing of(String activeKid, String activeSecret,
+                                    Map<String, String> previousSecrets) {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        previousSecrets.forEach((kid, secret) -> keys.put(kid, SigningKey.of(kid, secret)));
+        SigningKey active = SigningKey.of(activeKid, activeSecret);
+        keys.put(activeKid, active);
+        return new SigningKeyRing(active, keys);
+    }
+
+    public SigningKey active() {
+        return active;
+    }
+
+    public Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    public boolean hasKey(String kid) {
+        return kid == null || keys.containsKey(kid);
+    }
+
+    public DecodedJWT verify(String token) {
+        return verify(JWT.decode(token));
+    }
+
+    public DecodedJWT verify(DecodedJWT decoded) {
+        String kid = decoded.getKeyId();
+        // tokens issued before key ids were introduced are checked against the active key
+        SigningKey key = kid == null ? active : keys.get(kid);
+        if (key == null) {
+            throw new SignatureVerificationException(active.algorithm());
+        }
+        return key.verifier().verify(decoded);
+    }
+
+    public record SigningKey(String kid, Algorithm algorithm, JWTVerifier verifier) {
+        static SigningKey of(String kid, String secret) {
+            Algorithm algorithm = Algorithm.HMAC256(secret);
+            JWTVerifier verifier = JWT.require(algorithm)
+                    .withIssuer(ISSUER)
+                    .build();
+            return new SigningKey(kid, algorithm, verifier);
+        }
+    }
+}
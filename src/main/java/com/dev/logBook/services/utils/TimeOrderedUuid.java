@@ -0,0 +1,49 @@
+package com.dev.logBook.services.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 layout: 48 bits of unix milliseconds, the version nibble, a 12 bit counter that
+ * keeps ids generated within the same millisecond in order, the variant bits and 62 random
+ * bits. New keys land at the right edge of a B-tree index instead of a random page.
+ */
+public final class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+
+    private static final AtomicLong lastTimestamp = new AtomicLong();
+    private static final SecureRandom random = new SecureRandom();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        long candidate = epochMillis << COUNTER_BITS;
+        long timestamp;
+        long previous;
+        do {
+            previous = lastTimestamp.get();
+            // counter overflow or a clock step back borrows from the next millisecond
+            timestamp = Math.max(candidate, previous + 1);
+        } while (!lastTimestamp.compareAndSet(previous, timestamp));
+
+        long mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timestamp & 0xFFFL);
+        long leastSignificantBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a time-ordered UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,83 @@
+package com.dev.logBook.services.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed set of token buckets updated with compare-and-set, no locks and no per-key
+ * allocation. Keys are hashed onto a stripe, so two keys may share a bucket; that only
+ * ever makes the limit stricter. Each stripe packs the last refill time (upper bits,
+ * milliseconds) and the milli-tokens already used (lower bits) into one long. The refill
+ * time only moves forward by the time that was turned into milli-tokens, so the remainder
+ * carries over to the next acquire instead of being dropped.
+ */
+public final class TokenBucketLimiter {
+
+    private static final int USED_BITS = 20;
+    private static final long USED_MASK = (1L << USED_BITS) - 1;
+    private static final long TOKEN = 1000;
+
+    private final AtomicLongArray buckets;
+    private final int stripeMask;
+    private final long capacity;
+    private final long refillPerMinute;
+    private final long fullRefillMillis;
+    private final LongSupplier clock;
+    private final long epoch;
+
+    public TokenBucketLimiter(int stripes, int capacity, int refillPerMinute) {
+        this(stripes, capacity, refillPerMinute, System::currentTimeMillis);
+    }
+
+    public TokenBucketLimiter(int stripes, int capacity, int refillPerMinute, LongSupplier clock) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes must be a power of two");
+        }
+        if (capacity < 1 || capacity * TOKEN > USED_MASK) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + USED_MASK / TOKEN);
+        }
+        if (refillPerMinute < 1) {
+            throw new IllegalArgumentException("refillPerMinute must be positive");
+        }
+        this.buckets = new AtomicLongArray(stripes);
+        this.stripeMask = stripes - 1;
+        this.capacity = capacity * TOKEN;
+        this.refillPerMinute = refillPerMinute;
+        this.fullRefillMillis = 60_000L * capacity / refillPerMinute + 1;
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key.hashCode());
+    }
+
+    public boolean tryAcquire(int keyHash) {
+        int index = spread(keyHash) & stripeMask;
+        long now = clock.getAsLong() - epoch;
+        while (true) {
+            long state = buckets.get(index);
+            long last = state >>> USED_BITS;
+            long used = state & USED_MASK;
+            long elapsed = Math.max(0, now - last);
+            // milli-tokens regained since the last refill, and the time they took
+            long refilled = elapsed >= fullRefillMillis ? used
+                    : Math.min(used, elapsed * refillPerMinute * TOKEN / 60_000);
+            long refilledAt = refilled == used ? now
+                    : last + (refilled * 60_000 + refillPerMinute * TOKEN - 1) / (refillPerMinute * TOKEN);
+            used -= refilled;
+            if (used + TOKEN > capacity) {
+                return false;
+            }
+            long next = (refilledAt << USED_BITS) | (used + TOKEN);
+            if (buckets.compareAndSet(index, state, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,120 @@
+package com.dev.logBook.services.utils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Sums weight * reps per catalog id without allocating per set. Weights are kept as
+ * thousandths (ExerciseDto allows three fraction digits) in an open addressing table of
+ * primitive arrays, and only become BigDecimal again when read. The largest input scale
+ * per key is remembered so the result equals the BigDecimal arithmetic it replaces.
+ */
+public final class VolumeAccumulator {
+
+    public static final int WEIGHT_SCALE = 3;
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private long[] volumes;
+    private int[] scales;
+    private int size;
+
+    public VolumeAccumulator(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedKeys) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    public static long toScaled(BigDecimal weight) {
+        return weight.movePointRight(WEIGHT_SCALE).longValueExact();
+    }
+
+    public void add(int catalogId, BigDecimal weight, int reps) {
+        add(catalogId, toScaled(weight), weight.scale(), reps);
+    }
+
+    public void add(int catalogId, long scaledWeight, int weightScale, int reps) {
+        if (catalogId == EMPTY) {
+            throw new IllegalArgumentException("Invalid catalog id " + catalogId);
+        }
+        int slot = slotOf(catalogId);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = catalogId;
+            scales[slot] = weightScale;
+            if (++size * 2 > keys.length) {
+                grow();
+                slot = slotOf(catalogId);
+            }
+        } else if (weightScale > scales[slot]) {
+            scales[slot] = weightScale;
+        }
+        volumes[slot] += scaledWeight * reps;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long scaledVolume(int catalogId) {
+        int slot = slotOf(catalogId);
+        return keys[slot] == EMPTY ? 0 : volumes[slot];
+    }
+
+    public BigDecimal volume(int catalogId) {
+        int slot = slotOf(catalogId);
+        return keys[slot] == EMPTY ? null : toBigDecimal(slot);
+    }
+
+    public void forEach(VolumeConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], toBigDecimal(slot));
+            }
+        }
+    }
+
+    private BigDecimal toBigDecimal(int slot) {
+        return BigDecimal.valueOf(volumes[slot], WEIGHT_SCALE).setScale(scales[slot]);
+    }
+
+    private int slotOf(int catalogId) {
+        int mask = keys.length - 1;
+        int slot = mix(catalogId) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != catalogId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldVolumes = volumes;
+        int[] oldScales = scales;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                volumes[slot] = oldVolumes[i];
+                scales[slot] = oldScales[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        volumes = new long[capacity];
+        scales = new int[capacity];
+    }
+
+    @FunctionalInterface
+    public interface VolumeConsumer {
+        void accept(int catalogId, BigDecimal volume);
+    }
+}
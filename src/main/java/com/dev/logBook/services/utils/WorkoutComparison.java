@@ -0,0 +1,65 @@
+package com.dev.logBook.services.utils;
+
+import com.dev.logBook.entities.Exercise;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Diff of two workouts in O(n + m): the new side is indexed by catalog id in one pass, then
+ * every old set takes the next unmatched new set with the same id, so the n-th set of an
+ * exercise is compared with the n-th set of the same exercise.
+ */
+public record WorkoutComparison(List<ExerciseComparator> differences,
+                                List<Exercise> oldOnly,
+                                List<Exercise> newOnly) {
+
+    public static WorkoutComparison of(List<Exercise> oldExercises, List<Exercise> newExercises,
+                                       IntFunction<String> displayName) {
+        Map<Integer, ArrayDeque<Exercise>> unmatched = new HashMap<>();
+        // sets without a catalog id have nothing to be matched on, they stay in oldOnly and newOnly
+        for (Exercise exercise : newExercises) {
+            if (exercise.getCatalogId() == null) {
+                continue;
+            }
+            unmatched.computeIfAbsent(exercise.getCatalogId(), key -> new ArrayDeque<>()).add(exercise);
+        }
+
+        List<ExerciseComparator> differences = new ArrayList<>();
+        List<Exercise> oldOnly = new ArrayList<>();
+        Set<Exercise> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Exercise oldExercise : oldExercises) {
+            ArrayDeque<Exercise> candidates = oldExercise.getCatalogId() == null
+                    ? null : unmatched.get(oldExercise.getCatalogId());
+            Exercise newExercise = candidates == null ? null : candidates.poll();
+            if (newExercise == null) {
+                oldOnly.add(oldExercise);
+                continue;
+            }
+            matched.add(newExercise);
+            differences.add(difference(oldExercise, newExercise, displayName));
+        }
+
+        List<Exercise> newOnly = new ArrayList<>();
+        for (Exercise exercise : newExercises) {
+            if (!matched.contains(exercise)) {
+                newOnly.add(exercise);
+            }
+        }
+        return new WorkoutComparison(differences, oldOnly, newOnly);
+    }
+
+    private static ExerciseComparator difference(Exercise oldExercise, Exercise newExercise,
+                                                 IntFunction<String> displayName) {
+        ExerciseComparator comparator = new ExerciseComparator();
+        comparator.setName(displayName.apply(newExercise.getCatalogId()));
+        comparator.setRepsDifference(newExercise.getReps() - oldExercise.getReps());
+        comparator.setRirDifference(newExercise.getRir() - oldExercise.getRir());
+        if (!Objects.equals(newExercise.getWeight(), oldExercise.getWeight())) {
+            BigDecimal weightDifference = newExercise.getWeight().subtract(oldExercise.getWeight());
+            comparator.setWeightDifference(weightDifference);
+        }
+        return comparator;
+    }
+}
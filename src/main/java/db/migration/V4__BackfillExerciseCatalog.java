@@ -0,0 +1,67 @@
+package db.migration;
+
+import com.dev.logBook.services.utils.ExerciseNames;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// runs in Java so existing names are normalized exactly like new ones
+public class V4__BackfillExerciseCatalog extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        Map<String, Integer> idsByName = new HashMap<>();
+
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE exercises SET catalog_id = ? WHERE name = ? AND catalog_id IS NULL")) {
+            for (String name : findUncataloguedNames(connection)) {
+                String normalized = ExerciseNames.normalize(name);
+                Integer catalogId = idsByName.get(normalized);
+                if (catalogId == null) {
+                    catalogId = insertEntry(connection, normalized, ExerciseNames.display(name));
+                    idsByName.put(normalized, catalogId);
+                }
+                update.setInt(1, catalogId);
+                update.setString(2, name);
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    private List<String> findUncataloguedNames(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT DISTINCT name FROM exercises WHERE catalog_id IS NULL AND name IS NOT NULL");
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                names.add(rows.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private int insertEntry(Connection connection, String normalized, String displayName)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO exercise_catalog (normalized_name, display_name) VALUES (?, ?)",
+                new String[]{"id"})) {
+            insert.setString(1, normalized);
+            insert.setString(2, displayName);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+}
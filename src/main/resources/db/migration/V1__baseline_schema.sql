@@ -0,0 +1,53 @@
+CREATE TABLE IF NOT EXISTS users (
+    id UUID NOT NULL,
+    username VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    role SMALLINT,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS workouts (
+    id UUID NOT NULL,
+    muscle SMALLINT,
+    date DATE,
+    lower_reps_range INTEGER NOT NULL,
+    upper_reps_range INTEGER NOT NULL,
+    user_id UUID,
+    CONSTRAINT pk_workouts PRIMARY KEY (id),
+    CONSTRAINT uk_workouts_muscle_user_date UNIQUE (muscle, user_id, date),
+    CONSTRAINT fk_workouts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS exercises (
+    id UUID NOT NULL,
+    name VARCHAR(255),
+    reps INTEGER NOT NULL,
+    weight NUMERIC(38, 2),
+    rir INTEGER NOT NULL,
+    created_at BIGINT,
+    workout_id UUID,
+    user_id UUID,
+    CONSTRAINT pk_exercises PRIMARY KEY (id),
+    CONSTRAINT fk_exercises_workout FOREIGN KEY (workout_id) REFERENCES workouts (id),
+    CONSTRAINT fk_exercises_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id UUID NOT NULL,
+    token_hash VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked BOOLEAN NOT NULL,
+    user_id UUID,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_revoked_tokens PRIMARY KEY (jti)
+);
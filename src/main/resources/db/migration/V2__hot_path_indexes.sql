@@ -0,0 +1,20 @@
+CREATE INDEX IF NOT EXISTS idx_workouts_user_muscle_date
+    ON workouts (user_id, muscle, date DESC);
+
+CREATE INDEX IF NOT EXISTS idx_workouts_previous_comparable
+    ON workouts (user_id, muscle, lower_reps_range, upper_reps_range, date DESC);
+
+CREATE INDEX IF NOT EXISTS idx_workouts_user_date_id
+    ON workouts (user_id, date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_exercises_workout_id
+    ON exercises (workout_id);
+
+CREATE INDEX IF NOT EXISTS idx_exercises_user_created_at_id
+    ON exercises (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id
+    ON refresh_tokens (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at
+    ON revoked_tokens (expires_at);
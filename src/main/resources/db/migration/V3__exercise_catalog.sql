@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS exercise_catalog (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    normalized_name VARCHAR(255) NOT NULL,
+    display_name VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_exercise_catalog PRIMARY KEY (id),
+    CONSTRAINT uk_exercise_catalog_normalized_name UNIQUE (normalized_name)
+);
+
+CREATE TABLE IF NOT EXISTS exercise_aliases (
+    alias VARCHAR(255) NOT NULL,
+    catalog_id INTEGER NOT NULL,
+    CONSTRAINT pk_exercise_aliases PRIMARY KEY (alias),
+    CONSTRAINT fk_exercise_aliases_catalog FOREIGN KEY (catalog_id) REFERENCES exercise_catalog (id)
+);
+
+ALTER TABLE exercises ADD COLUMN IF NOT EXISTS catalog_id INTEGER;
+
+ALTER TABLE exercises ADD CONSTRAINT fk_exercises_catalog
+    FOREIGN KEY (catalog_id) REFERENCES exercise_catalog (id);
+
+CREATE INDEX IF NOT EXISTS idx_exercises_catalog_id
+    ON exercises (catalog_id);
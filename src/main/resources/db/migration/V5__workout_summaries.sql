@@ -0,0 +1,50 @@
+CREATE TABLE IF NOT EXISTS workout_summaries (
+    workout_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    lower_reps_range INTEGER NOT NULL,
+    upper_reps_range INTEGER NOT NULL,
+    set_count BIGINT NOT NULL,
+    out_of_range_count BIGINT NOT NULL,
+    total_volume NUMERIC(38, 2) NOT NULL,
+    CONSTRAINT pk_workout_summaries PRIMARY KEY (workout_id),
+    CONSTRAINT fk_workout_summaries_workout FOREIGN KEY (workout_id) REFERENCES workouts (id)
+);
+
+CREATE TABLE IF NOT EXISTS workout_exercise_summaries (
+    workout_id UUID NOT NULL,
+    catalog_id INTEGER NOT NULL,
+    set_count INTEGER NOT NULL,
+    volume NUMERIC(38, 2) NOT NULL,
+    top_set_weight NUMERIC(38, 2) NOT NULL,
+    top_set_reps INTEGER NOT NULL,
+    CONSTRAINT pk_workout_exercise_summaries PRIMARY KEY (workout_id, catalog_id),
+    CONSTRAINT fk_workout_exercise_summaries_workout FOREIGN KEY (workout_id) REFERENCES workouts (id),
+    CONSTRAINT fk_workout_exercise_summaries_catalog
+        FOREIGN KEY (catalog_id) REFERENCES exercise_catalog (id)
+);
+
+INSERT INTO workout_summaries (workout_id, user_id, lower_reps_range, upper_reps_range,
+                               set_count, out_of_range_count, total_volume)
+SELECT w.id, w.user_id, w.lower_reps_range, w.upper_reps_range,
+       COUNT(e.id),
+       COALESCE(SUM(CASE WHEN e.reps < w.lower_reps_range OR e.reps > w.upper_reps_range
+                         THEN 1 ELSE 0 END), 0),
+       COALESCE(SUM(COALESCE(e.weight, 0) * e.reps), 0)
+FROM workouts w
+LEFT JOIN exercises e ON e.workout_id = w.id
+WHERE w.user_id IS NOT NULL
+GROUP BY w.id, w.user_id, w.lower_reps_range, w.upper_reps_range;
+
+INSERT INTO workout_exercise_summaries (workout_id, catalog_id, set_count, volume,
+                                        top_set_weight, top_set_reps)
+SELECT e.workout_id, e.catalog_id, COUNT(*), SUM(COALESCE(e.weight, 0) * e.reps),
+       MAX(COALESCE(e.weight, 0)), 0
+FROM exercises e
+WHERE e.workout_id IS NOT NULL AND e.catalog_id IS NOT NULL
+GROUP BY e.workout_id, e.catalog_id;
+
+UPDATE workout_exercise_summaries s SET top_set_reps = (
+    SELECT MAX(e.reps) FROM exercises e
+    WHERE e.workout_id = s.workout_id AND e.catalog_id = s.catalog_id
+      AND COALESCE(e.weight, 0) = s.top_set_weight
+);
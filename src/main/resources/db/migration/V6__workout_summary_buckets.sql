@@ -0,0 +1,9 @@
+ALTER TABLE workout_summaries ADD COLUMN IF NOT EXISTS muscle SMALLINT;
+ALTER TABLE workout_summaries ADD COLUMN IF NOT EXISTS date DATE;
+
+UPDATE workout_summaries s SET
+    muscle = (SELECT w.muscle FROM workouts w WHERE w.id = s.workout_id),
+    date = (SELECT w.date FROM workouts w WHERE w.id = s.workout_id);
+
+CREATE INDEX IF NOT EXISTS idx_workout_summaries_user_muscle_date
+    ON workout_summaries (user_id, muscle, date);
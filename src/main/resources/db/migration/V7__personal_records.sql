@@ -0,0 +1,65 @@
+ALTER TABLE exercises ADD COLUMN IF NOT EXISTS e1rm NUMERIC(38, 2);
+ALTER TABLE exercises ADD COLUMN IF NOT EXISTS volume NUMERIC(38, 2);
+
+-- same formulas as OneRepMax: reps in reserve count as reps to failure,
+-- Brzycki up to ten of them and Epley above
+UPDATE exercises SET
+    volume = weight * reps,
+    e1rm = CASE
+        WHEN weight IS NULL THEN NULL
+        WHEN reps <= 0 THEN 0
+        WHEN reps + rir = 1 THEN weight
+        WHEN reps + rir <= 10 THEN ROUND(weight * 36 / (37 - (reps + rir)), 2)
+        ELSE ROUND(weight * (30 + reps + rir) / 30, 2)
+    END;
+
+-- the next best set of a user and exercise is one index probe away once a record is edited or deleted
+CREATE INDEX IF NOT EXISTS idx_exercises_user_catalog_weight
+    ON exercises (user_id, catalog_id, weight DESC);
+CREATE INDEX IF NOT EXISTS idx_exercises_user_catalog_e1rm
+    ON exercises (user_id, catalog_id, e1rm DESC);
+CREATE INDEX IF NOT EXISTS idx_exercises_user_catalog_volume
+    ON exercises (user_id, catalog_id, volume DESC);
+
+CREATE TABLE IF NOT EXISTS personal_records (
+    user_id UUID NOT NULL,
+    catalog_id INTEGER NOT NULL,
+    kind SMALLINT NOT NULL,
+    exercise_id UUID NOT NULL,
+    weight NUMERIC(38, 2) NOT NULL,
+    reps INTEGER NOT NULL,
+    rir INTEGER NOT NULL,
+    score NUMERIC(38, 2) NOT NULL,
+    achieved_at BIGINT,
+    CONSTRAINT pk_personal_records PRIMARY KEY (user_id, catalog_id, kind),
+    CONSTRAINT fk_personal_records_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_personal_records_catalog FOREIGN KEY (catalog_id) REFERENCES exercise_catalog (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_personal_records_catalog_id ON personal_records (catalog_id);
+
+-- kind is the ordinal of RecordType: heaviest weight, best e1RM, best volume set.
+-- Ties go to the earliest set, a later equal lift is not a new record.
+INSERT INTO personal_records (user_id, catalog_id, kind, exercise_id, weight, reps, rir, score, achieved_at)
+SELECT user_id, catalog_id, 0, id, weight, reps, rir, weight, created_at FROM (
+    SELECT e.*, ROW_NUMBER() OVER (PARTITION BY e.user_id, e.catalog_id
+                                   ORDER BY e.weight DESC, e.created_at, e.id) AS pick
+    FROM exercises e
+    WHERE e.user_id IS NOT NULL AND e.catalog_id IS NOT NULL AND e.weight IS NOT NULL
+) ranked WHERE pick = 1;
+
+INSERT INTO personal_records (user_id, catalog_id, kind, exercise_id, weight, reps, rir, score, achieved_at)
+SELECT user_id, catalog_id, 1, id, weight, reps, rir, e1rm, created_at FROM (
+    SELECT e.*, ROW_NUMBER() OVER (PARTITION BY e.user_id, e.catalog_id
+                                   ORDER BY e.e1rm DESC, e.created_at, e.id) AS pick
+    FROM exercises e
+    WHERE e.user_id IS NOT NULL AND e.catalog_id IS NOT NULL AND e.e1rm IS NOT NULL
+) ranked WHERE pick = 1;
+
+INSERT INTO personal_records (user_id, catalog_id, kind, exercise_id, weight, reps, rir, score, achieved_at)
+SELECT user_id, catalog_id, 2, id, weight, reps, rir, volume, created_at FROM (
+    SELECT e.*, ROW_NUMBER() OVER (PARTITION BY e.user_id, e.catalog_id
+                                   ORDER BY e.volume DESC, e.created_at, e.id) AS pick
+    FROM exercises e
+    WHERE e.user_id IS NOT NULL AND e.catalog_id IS NOT NULL AND e.volume IS NOT NULL
+) ranked WHERE pick = 1;
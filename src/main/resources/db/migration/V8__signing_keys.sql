@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS signing_keys (
+    kid VARCHAR(64) NOT NULL,
+    secret VARCHAR(255) NOT NULL,
+    created_at BIGINT NOT NULL,
+    retired_at BIGINT,
+    CONSTRAINT pk_signing_keys PRIMARY KEY (kid)
+);
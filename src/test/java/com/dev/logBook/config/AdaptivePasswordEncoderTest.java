@@ -0,0 +1,49 @@
+package com.dev.logBook.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePasswordEncoderTest {
+
+    @Test
+    @DisplayName("should keep the calibrated strength within the configured bounds")
+    void calibrate_withinBounds() {
+        AdaptivePasswordEncoder fast = new AdaptivePasswordEncoder(1, 5, 6);
+        AdaptivePasswordEncoder slow = new AdaptivePasswordEncoder(60_000, 5, 6);
+
+        assertEquals(5, fast.getStrength());
+        assertEquals(6, slow.getStrength());
+    }
+
+    @Test
+    @DisplayName("should match passwords hashed with any cost")
+    void matches_anyCost() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(1, 5, 5);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+        assertTrue(encoder.matches("password", legacyHash));
+        assertTrue(encoder.matches("password", encoder.encode("password")));
+        assertFalse(encoder.matches("other", legacyHash));
+    }
+
+    @Test
+    @DisplayName("should ask for an upgrade only when the stored cost is lower")
+    void upgradeEncoding_lowerCost() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(1, 5, 5);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    }
+
+    @Test
+    @DisplayName("should read the cost from a bcrypt hash")
+    void costOf() {
+        assertEquals(10, AdaptivePasswordEncoder.costOf("$2a$10$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, AdaptivePasswordEncoder.costOf("plain"));
+        assertEquals(-1, AdaptivePasswordEncoder.costOf(null));
+    }
+}
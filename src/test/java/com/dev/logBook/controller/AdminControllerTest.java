@@ -0,0 +1,111 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.controller.dto.ExerciseAliasDTO;
+import com.dev.logBook.services.ExerciseCatalogService;
+import com.dev.logBook.services.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminControllerTest extends ApplicationConfigTest {
+
+    private static final String PATH = "/admin/keys";
+
+    ExerciseAliasDTO EXERCISE_ALIAS_DTO_RECORD = new ExerciseAliasDTO("bench", "bench press");
+
+    @MockBean
+    private TokenService tokenService;
+    @MockBean
+    private ExerciseCatalogService exerciseCatalogService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("should rotate the signing key and return only the new key id")
+    void rotateKey_successful() throws Exception {
+        when(tokenService.rotateKey()).thenReturn("2024-01");
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH)
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(Map.of("keyId", "2024-01"))));
+
+        verify(tokenService, times(1)).rotateKey();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should not allow regular users to rotate the signing key")
+    void rotateKey_forbidden() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH)
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isForbidden());
+
+        verify(tokenService, never()).rotateKey();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("should retire a signing key")
+    void retireKey_successful() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete(PATH + "/old"))
+                .andExpect(status().isNoContent());
+
+        verify(tokenService, times(1)).retireKey("old");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("should add an exercise alias")
+    void addExerciseAlias_successful() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post("/admin/exercise-aliases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(EXERCISE_ALIAS_DTO_RECORD));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isNoContent());
+
+        verify(exerciseCatalogService, times(1)).addAlias(EXERCISE_ALIAS_DTO_RECORD.getAlias(),
+                EXERCISE_ALIAS_DTO_RECORD.getExerciseName());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should not allow regular users to add exercise aliases")
+    void addExerciseAlias_forbidden() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post("/admin/exercise-aliases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(EXERCISE_ALIAS_DTO_RECORD));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isForbidden());
+
+        verify(exerciseCatalogService, never()).addAlias(anyString(), anyString());
+    }
+}
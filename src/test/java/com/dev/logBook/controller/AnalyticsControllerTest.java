@@ -0,0 +1,96 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.controller.exceptions.InvalidMuscleEnumException;
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.enums.VolumeBucket;
+import com.dev.logBook.services.AnalyticsService;
+import com.dev.logBook.services.exceptions.InvalidAnalyticsQueryException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AnalyticsControllerTest extends ApplicationConfigTest {
+
+    private static final String PATH = "/analytics/volume";
+
+    @MockBean
+    private AnalyticsService analyticsService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return the volume per bucket")
+    void getVolume_success() throws Exception {
+        LocalDate from = LocalDate.of(2023, 1, 1);
+        LocalDate to = LocalDate.of(2023, 12, 31);
+        List<VolumePointDto> expectedResult = List.of(
+                new VolumePointDto(LocalDate.of(2023, 1, 2), BigDecimal.valueOf(1500), 15));
+        when(analyticsService.getVolume(Muscles.CHEST, from, to, VolumeBucket.WEEK))
+                .thenReturn(expectedResult);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "?muscle=chest&from=2023-01-01&to=2023-12-31&bucket=week")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResult)));
+
+        verify(analyticsService, times(1)).getVolume(Muscles.CHEST, from, to, VolumeBucket.WEEK);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should throw InvalidMuscleEnumException if muscle is not valid")
+    void getVolume_invalidMuscle() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "?muscle=neck&from=2023-01-01&to=2023-12-31")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof InvalidMuscleEnumException));
+
+        verify(analyticsService, never()).getVolume(any(), any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should throw InvalidAnalyticsQueryException if bucket is not valid")
+    void getVolume_invalidBucket() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "?muscle=chest&from=2023-01-01&to=2023-12-31&bucket=year")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof InvalidAnalyticsQueryException));
+
+        verify(analyticsService, never()).getVolume(any(), any(), any(), any());
+    }
+}
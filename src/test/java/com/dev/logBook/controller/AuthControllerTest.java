@@ -1,28 +1,40 @@
 package com.dev.logBook.controller;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
 import com.dev.logBook.ApplicationConfigTest;
 import com.dev.logBook.controller.dto.LoginDTO;
 import com.dev.logBook.controller.dto.RegisterDTO;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.services.AuthenticationService;
+import com.dev.logBook.services.exceptions.AuthenticationBusyException;
+import com.dev.logBook.services.exceptions.InvalidTokenException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
+import com.dev.logBook.services.utils.AuthTokens;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class AuthControllerTest extends ApplicationConfigTest {
 
@@ -33,7 +45,10 @@ class AuthControllerTest extends ApplicationConfigTest {
     RegisterDTO REGISTER_DTO_RECORD = new RegisterDTO(USER_RECORD.getUsername(),
             USER_RECORD.getPassword(), USER_RECORD.getEmail());
     LoginDTO LOGIN_DTO_RECORD = new LoginDTO(USER_RECORD.getUsername(), USER_RECORD.getPassword());
+    AuthTokens AUTH_TOKENS_RECORD = new AuthTokens("token", "refresh");
 
+    @Value("${jwt.secret}")
+    private String jwtSecret;
     @MockBean
     private AuthenticationService authenticationService;
     @Autowired
@@ -44,8 +59,8 @@ class AuthControllerTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should register a user")
     void register_successful() throws Exception {
-        String token = "token";
-        when(authenticationService.register(any(RegisterDTO.class))).thenReturn(token);
+        when(authenticationService.registerAsync(any(RegisterDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(AUTH_TOKENS_RECORD));
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
                 .post(PATH + "/register")
@@ -53,11 +68,17 @@ class AuthControllerTest extends ApplicationConfigTest {
                 .accept(MediaType.APPLICATION_JSON)
                 .content(this.objectMapper.writeValueAsString(REGISTER_DTO_RECORD));
 
-        mockMvc.perform(mockRequest)
+        MvcResult mvcResult = mockMvc.perform(mockRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
-                .andExpect(content().string(token));
+                .andExpect(content().string(AUTH_TOKENS_RECORD.accessToken()))
+                .andExpect(cookie().value("refresh_token", AUTH_TOKENS_RECORD.refreshToken()))
+                .andExpect(cookie().httpOnly("refresh_token", true));
 
-        verify(authenticationService, times(1)).register(any(RegisterDTO.class));
+        verify(authenticationService, times(1)).registerAsync(any(RegisterDTO.class));
     }
 
     @Test
@@ -81,8 +102,8 @@ class AuthControllerTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should throw UniqueConstraintViolationError if user already exists in db")
     void register_userAlreadyExists() throws Exception {
-        when(authenticationService.register(any(RegisterDTO.class)))
-                .thenThrow(UniqueConstraintViolationError.class);
+        when(authenticationService.registerAsync(any(RegisterDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new UniqueConstraintViolationError()));
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
                 .post(PATH + "/register")
@@ -90,19 +111,24 @@ class AuthControllerTest extends ApplicationConfigTest {
                 .accept(MediaType.APPLICATION_JSON)
                 .content(this.objectMapper.writeValueAsString(REGISTER_DTO_RECORD));
 
-        mockMvc.perform(mockRequest)
+        MvcResult mvcResult = mockMvc.perform(mockRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isBadRequest())
                 .andExpect(result ->
                         assertTrue(result.getResolvedException()
                                 instanceof UniqueConstraintViolationError));
 
-        verify(authenticationService, times(1)).register(any(RegisterDTO.class));
+        verify(authenticationService, times(1)).registerAsync(any(RegisterDTO.class));
     }
 
     @Test
     @DisplayName("should login a user")
     void login_successful() throws Exception {
-        when(authenticationService.login(any(LoginDTO.class))).thenReturn("token");
+        when(authenticationService.loginAsync(any(LoginDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(AUTH_TOKENS_RECORD));
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
                 .post(PATH + "/login")
@@ -110,11 +136,33 @@ class AuthControllerTest extends ApplicationConfigTest {
                 .accept(MediaType.APPLICATION_JSON)
                 .content(this.objectMapper.writeValueAsString(LOGIN_DTO_RECORD));
 
-        mockMvc.perform(mockRequest)
+        MvcResult mvcResult = mockMvc.perform(mockRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
-                .andExpect(content().string("token"));
+                .andExpect(content().string(AUTH_TOKENS_RECORD.accessToken()))
+                .andExpect(cookie().value("refresh_token", AUTH_TOKENS_RECORD.refreshToken()));
 
-        verify(authenticationService, times(1)).login(any(LoginDTO.class));
+        verify(authenticationService, times(1)).loginAsync(any(LoginDTO.class));
+    }
+
+    @Test
+    @DisplayName("should return 503 if the password hashing pool is saturated")
+    void login_hashingPoolSaturated() throws Exception {
+        when(authenticationService.loginAsync(any(LoginDTO.class)))
+                .thenThrow(AuthenticationBusyException.class);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH + "/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(LOGIN_DTO_RECORD));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
     }
 
     @Test
@@ -135,4 +183,67 @@ class AuthControllerTest extends ApplicationConfigTest {
                                 instanceof MethodArgumentNotValidException));
     }
 
+    @Test
+    @DisplayName("should issue a new token pair from the refresh token cookie")
+    void refresh_successful() throws Exception {
+        when(authenticationService.refresh("refresh")).thenReturn(AUTH_TOKENS_RECORD);
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(PATH + "/refresh")
+                        .cookie(new Cookie("refresh_token", "refresh")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(AUTH_TOKENS_RECORD.accessToken()))
+                .andExpect(cookie().value("refresh_token", AUTH_TOKENS_RECORD.refreshToken()));
+
+        verify(authenticationService, times(1)).refresh("refresh");
+    }
+
+    @Test
+    @DisplayName("should refresh even if the expired access token is sent along")
+    void refresh_expiredAccessToken() throws Exception {
+        String expiredToken = JWT.create()
+                .withIssuer("JWT")
+                .withSubject(USER_RECORD.getUsername())
+                .withExpiresAt(Instant.now().minusSeconds(60))
+                .sign(Algorithm.HMAC256(jwtSecret));
+        when(authenticationService.refresh("refresh")).thenReturn(AUTH_TOKENS_RECORD);
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(PATH + "/refresh")
+                        .header("Authorization", "Bearer " + expiredToken)
+                        .cookie(new Cookie("refresh_token", "refresh")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(AUTH_TOKENS_RECORD.accessToken()));
+
+        verify(authenticationService, times(1)).refresh("refresh");
+    }
+
+    @Test
+    @DisplayName("should return 401 if the refresh token is invalid or reused")
+    void refresh_invalidToken() throws Exception {
+        when(authenticationService.refresh("refresh"))
+                .thenThrow(new InvalidTokenException("Refresh token has already been used"));
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(PATH + "/refresh")
+                        .cookie(new Cookie("refresh_token", "refresh")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof InvalidTokenException));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should revoke the tokens and clear the refresh cookie on logout")
+    void logout_successful() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(PATH + "/logout")
+                        .cookie(new Cookie("refresh_token", "refresh")))
+                .andExpect(status().isNoContent())
+                .andExpect(cookie().maxAge("refresh_token", 0));
+
+        verify(authenticationService, times(1)).logout(isNull(), eq("refresh"));
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.dev.logBook.controller;
 
 import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
@@ -9,7 +10,6 @@ import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.enums.Muscles;
 import com.dev.logBook.services.ExerciseService;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -135,6 +135,29 @@ class ExerciseControllerTest extends ApplicationConfigTest {
         verify(exerciseService, never()).create(any(ExerciseDto.class));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("should return a page of exercises and the next cursor")
+    void findPage_success() throws Exception {
+        CursorPage<Exercise> page = new CursorPage<>(Collections.singletonList(EXERCISE_RECORD),
+                "cursor");
+        when(exerciseService.findPage("previous", 1)).thenReturn(page);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH)
+                .param("size", "1")
+                .param("cursor", "previous")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is(EXERCISE_RECORD.getName())))
+                .andExpect(jsonPath("$.nextCursor", is("cursor")));
+
+        verify(exerciseService, times(1)).findPage("previous", 1);
+    }
+
     @Test
     @WithMockUser
     @DisplayName("should return a list of exercises")
@@ -205,27 +228,6 @@ class ExerciseControllerTest extends ApplicationConfigTest {
         verify(exerciseService, times(1)).findById(any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the exercise")
-    void findById_invalidCheckOwnership() throws Exception {
-        when(exerciseService.findById(any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/" + EXERCISE_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(exerciseService, times(1)).findById(any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void findById_invalidUser() throws Exception {
@@ -306,30 +308,6 @@ class ExerciseControllerTest extends ApplicationConfigTest {
                 .update(any(UUID.class), any(ExerciseDto.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the exercise")
-    void update_invalidCheckOwnership() throws Exception {
-        when(exerciseService.update(any(UUID.class), any(ExerciseDto.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .patch(PATH + "/" + EXERCISE_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(EXERCISE_DTO_RECORD));
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(exerciseService, times(1))
-                .update(any(UUID.class), any(ExerciseDto.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void update_invalidUser() throws Exception {
@@ -382,28 +360,6 @@ class ExerciseControllerTest extends ApplicationConfigTest {
                 .delete(any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the exercise")
-    void delete_invalidCheckOwnership() throws Exception {
-        doThrow(UnauthorizedAccessException.class)
-                .when(exerciseService).delete(any(UUID.class));
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .delete(PATH + "/" + EXERCISE_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(exerciseService, times(1))
-                .delete(any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void delete_invalidUser() throws Exception {
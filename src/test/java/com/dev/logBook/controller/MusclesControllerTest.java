@@ -11,7 +11,6 @@ import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.enums.Muscles;
 import com.dev.logBook.services.WorkoutService;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
 import com.dev.logBook.services.utils.ExerciseComparator;
 import com.fasterxml.jackson.databind.ObjectMapper;
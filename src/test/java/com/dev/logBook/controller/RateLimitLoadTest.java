@@ -0,0 +1,97 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.controller.dto.LoginDTO;
+import com.dev.logBook.services.AuthenticationService;
+import com.dev.logBook.services.utils.AuthTokens;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "rate-limit.ip.capacity=20",
+        "rate-limit.ip.refill-per-minute=1"
+})
+class RateLimitLoadTest extends ApplicationConfigTest {
+
+    private static final int ATTEMPTS = 2000;
+    private static final int THREADS = 16;
+
+    // no token comes back however long the flood takes
+    @TestConfiguration
+    static class FixedClockConfig {
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+
+    @MockBean
+    private AuthenticationService authenticationService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser
+    @DisplayName("should let only the bucket capacity through a credential-stuffing flood " +
+            "while other endpoints keep answering")
+    void login_credentialStuffingFlood() throws Exception {
+        when(authenticationService.loginAsync(any(LoginDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(new AuthTokens("token", "refresh")));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger limited = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            String body = objectMapper.writeValueAsString(new LoginDTO("user" + i, "password" + i));
+            futures.add(executor.submit(() -> {
+                int status = mockMvc.perform(MockMvcRequestBuilders
+                                .post("/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse().getStatus();
+                if (status == 429) limited.incrementAndGet();
+                else accepted.incrementAndGet();
+                return null;
+            }));
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/muscles"))
+                .andExpect(status().isOk());
+
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(20, accepted.get());
+        assertEquals(ATTEMPTS - 20, limited.get());
+
+        verify(authenticationService, times(20)).loginAsync(any(LoginDTO.class));
+    }
+}
@@ -0,0 +1,58 @@
+package com.dev.logBook.controller;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.ExerciseRecordsDto;
+import com.dev.logBook.services.PersonalRecordService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RecordsControllerTest extends ApplicationConfigTest {
+
+    private static final String PATH = "/records";
+
+    private static final ExerciseRecordsDto.RecordSetDto RECORD_SET_RECORD =
+            new ExerciseRecordsDto.RecordSetDto(UUID.randomUUID(), new BigDecimal("100.00"),
+                    5, 1, new BigDecimal("116.13"), 1_700_000_000_000L);
+
+    @MockBean
+    private PersonalRecordService personalRecordService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return the records of every exercise")
+    void findAll_success() throws Exception {
+        List<ExerciseRecordsDto> expectedResult = List.of(new ExerciseRecordsDto("Bench Press",
+                RECORD_SET_RECORD, RECORD_SET_RECORD, RECORD_SET_RECORD));
+        when(personalRecordService.findAll()).thenReturn(expectedResult);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResult)));
+
+        verify(personalRecordService, times(1)).findAll();
+    }
+}
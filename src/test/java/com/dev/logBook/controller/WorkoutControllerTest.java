@@ -2,19 +2,26 @@ package com.dev.logBook.controller;
 
 import com.dev.logBook.ApplicationConfigTest;
 import com.dev.logBook.controller.exceptions.InvalidMuscleEnumException;
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
 import com.dev.logBook.dtos.WorkoutDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.services.ExerciseService;
 import com.dev.logBook.services.WorkoutService;
+import com.dev.logBook.services.exceptions.InvalidCursorException;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
 import com.dev.logBook.services.utils.ExerciseComparator;
+import com.dev.logBook.services.utils.WorkoutComparison;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,6 +81,8 @@ class WorkoutControllerTest extends ApplicationConfigTest {
             .build();
     @MockBean
     private WorkoutService workoutService;
+    @MockBean
+    private ExerciseService exerciseService;
     @Autowired
     private MockMvc mockMvc;
     @Autowired
@@ -164,6 +173,130 @@ class WorkoutControllerTest extends ApplicationConfigTest {
         verify(workoutService, never()).create(any(WorkoutDto.class));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("should create a batch of exercises")
+    void createExercises_success() throws Exception {
+        List<Exercise> exercises = Collections.singletonList(EXERCISE_RECORD);
+        when(exerciseService.createBatch(any(UUID.class), anyList())).thenReturn(exercises);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH + "/" + WORKOUT_RECORD.getId() + "/exercises:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(EXERCISE_DTO_RECORD)));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is(EXERCISE_RECORD.getName())));
+
+        verify(exerciseService, times(1)).createBatch(eq(WORKOUT_RECORD.getId()), anyList());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return 400 if an exercise of the batch is invalid")
+    void createExercises_invalidExercise() throws Exception {
+        when(exerciseService.createBatch(any(UUID.class), anyList()))
+                .thenThrow(new ConstraintViolationException("[0].reps: must be less than or equal to 50",
+                        Collections.emptySet()));
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH + "/" + WORKOUT_RECORD.getId() + "/exercises:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(EXERCISE_DTO_RECORD)));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof ConstraintViolationException));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return 400 if the batch holds more than 100 exercises")
+    void createExercises_tooLarge() throws Exception {
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .post(PATH + "/" + WORKOUT_RECORD.getId() + "/exercises:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.nCopies(101, EXERCISE_DTO_RECORD)));
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof ConstraintViolationException));
+
+        verify(exerciseService, never()).createBatch(any(UUID.class), anyList());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return the workout summaries")
+    void findSummaries_success() throws Exception {
+        List<WorkoutSummaryDto> summaries = Collections.singletonList(new WorkoutSummaryDto(
+                WORKOUT_RECORD.getId(), WORKOUT_RECORD.getDate(), WORKOUT_RECORD.getMuscle(),
+                WORKOUT_RECORD.getLowerRepsRange(), WORKOUT_RECORD.getUpperRepsRange(), 3));
+        when(workoutService.findSummaries()).thenReturn(summaries);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "/summary")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(WORKOUT_RECORD.getId().toString())))
+                .andExpect(jsonPath("$[0].exerciseCount", is(3)))
+                .andExpect(jsonPath("$[0].exercises").doesNotExist());
+
+        verify(workoutService, times(1)).findSummaries();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return a page of workouts and the next cursor")
+    void findPage_success() throws Exception {
+        CursorPage<Workout> page = new CursorPage<>(Collections.singletonList(WORKOUT_RECORD),
+                "cursor");
+        when(workoutService.findPage(null, 1)).thenReturn(page);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH)
+                .param("size", "1")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id", is(WORKOUT_RECORD.getId().toString())))
+                .andExpect(jsonPath("$.nextCursor", is("cursor")));
+
+        verify(workoutService, times(1)).findPage(null, 1);
+        verify(workoutService, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return 400 if the cursor is invalid")
+    void findPage_invalidCursor() throws Exception {
+        when(workoutService.findPage("cursor", 1))
+                .thenThrow(new InvalidCursorException("cursor"));
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH)
+                .param("size", "1")
+                .param("cursor", "cursor")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isBadRequest())
+                .andExpect(result ->
+                        assertTrue(result.getResolvedException()
+                                instanceof InvalidCursorException));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("should return a list of workouts")
@@ -234,27 +367,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
         verify(workoutService, times(1)).findById(any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void findById_invalidCheckOwnership() throws Exception {
-        when(workoutService.findById(any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/" + WORKOUT_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1)).findById(any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void findById_invalidUser() throws Exception {
@@ -312,29 +424,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .findByDateAndMuscle(any(LocalDate.class), any(Muscles.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void findByDateAndMuscle_invalidCheckOwnership() throws Exception {
-        when(workoutService.findByDateAndMuscle(any(LocalDate.class), any(Muscles.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/date/" + WORKOUT_RECORD.getDate()
-                        + "/" + WORKOUT_RECORD.getMuscle())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .findByDateAndMuscle(any(LocalDate.class), any(Muscles.class));
-    }
-
     @Test
     @WithMockUser
     @DisplayName("should throw InvalidMuscleEnumException " +
@@ -408,11 +497,45 @@ class WorkoutControllerTest extends ApplicationConfigTest {
         verify(workoutService, never()).findWorkoutsByMuscle(any(Muscles.class));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("should return the previous comparable workout")
+    void findPreviousComparable_success() throws Exception {
+        when(workoutService.findPreviousComparable(any(UUID.class))).thenReturn(WORKOUT_RECORD);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "/previousWorkout/" + UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(WORKOUT_RECORD.getId().toString())));
+
+        verify(workoutService, times(1)).findPreviousComparable(any(UUID.class));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("should return 404 if there is no previous comparable workout")
+    void findPreviousComparable_notFound() throws Exception {
+        when(workoutService.findPreviousComparable(any(UUID.class)))
+                .thenThrow(ResourceNotFoundException.class);
+
+        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
+                .get(PATH + "/previousWorkout/" + UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(mockRequest)
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser
     @DisplayName("should return a list of exercises")
     void getExercisesOutsideRepsRange_success() throws Exception {
-        List<Exercise> exercises = Collections.singletonList(EXERCISE_RECORD);
+        List<ExerciseSetDto> exercises = Collections.singletonList(new ExerciseSetDto(
+                EXERCISE_RECORD.getId(), EXERCISE_RECORD.getName(), EXERCISE_RECORD.getReps(),
+                EXERCISE_RECORD.getWeight(), EXERCISE_RECORD.getRir(), EXERCISE_RECORD.getCreatedAt()));
         when(workoutService.getExercisesOutsideRepsRange(any(UUID.class)))
                 .thenReturn(exercises);
 
@@ -449,28 +572,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
         verify(workoutService, times(1)).getExercisesOutsideRepsRange(any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void getExercisesOutsideRepsRange_invalidCheckOwnership() throws Exception {
-        when(workoutService.getExercisesOutsideRepsRange(any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/exercisesOutsideRepRange/" + WORKOUT_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .getExercisesOutsideRepsRange(any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void getExercisesOutsideRepsRange_invalidUser() throws Exception {
@@ -528,24 +629,22 @@ class WorkoutControllerTest extends ApplicationConfigTest {
 
     @Test
     @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void getVolumeLoad_invalidCheckOwnership() throws Exception {
-        when(workoutService.calculateVolumeLoad(any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
+    @DisplayName("should return the stats of a workout")
+    void getStats_success() throws Exception {
+        WorkoutStatsDto expectedResult = new WorkoutStatsDto(1, 0, BigDecimal.valueOf(500),
+                List.of(new WorkoutStatsDto.ExerciseStatsDto("name", 1, BigDecimal.valueOf(500),
+                        BigDecimal.valueOf(50), 10)));
+        when(workoutService.getStats(any(UUID.class))).thenReturn(expectedResult);
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/volumeLoad/" + WORKOUT_RECORD.getId())
+                .get(PATH + "/stats/" + WORKOUT_RECORD.getId())
                 .contentType(MediaType.APPLICATION_JSON);
 
         mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResult)));
 
-        verify(workoutService, times(1))
-                .calculateVolumeLoad(any(UUID.class));
+        verify(workoutService, times(1)).getStats(any(UUID.class));
     }
 
     @Test
@@ -565,14 +664,16 @@ class WorkoutControllerTest extends ApplicationConfigTest {
 
     @Test
     @WithMockUser
-    @DisplayName("should return a list of ExerciseComparator")
-    void getWorkoutsComparison_success() throws Exception {
-        List<ExerciseComparator> expectedResult = new ArrayList<>();
-        when(workoutService.compareWorkouts(any(UUID.class), any(UUID.class)))
+    @DisplayName("should return the diff of two workouts")
+    void getWorkoutsDiff_success() throws Exception {
+        WorkoutComparison expectedResult = new WorkoutComparison(
+                List.of(ExerciseComparator.builder().name("name").repsDifference(2).build()),
+                List.of(EXERCISE_RECORD), new ArrayList<>());
+        when(workoutService.diffWorkouts(any(UUID.class), any(UUID.class)))
                 .thenReturn(expectedResult);
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/compareWorkouts/" + UUID.randomUUID()
+                .get(PATH + "/diff/" + UUID.randomUUID()
                         + "/" + UUID.randomUUID())
                 .contentType(MediaType.APPLICATION_JSON);
 
@@ -581,15 +682,16 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedResult)));
 
         verify(workoutService, times(1))
-                .compareWorkouts(any(UUID.class), any(UUID.class));
+                .diffWorkouts(any(UUID.class), any(UUID.class));
     }
 
     @Test
     @WithMockUser
-    @DisplayName("should throw ResourceNotFoundException if no workout is found")
-    void getWorkoutsComparison_noExerciseFound() throws Exception {
+    @DisplayName("should return a list of ExerciseComparator")
+    void getWorkoutsComparison_success() throws Exception {
+        List<ExerciseComparator> expectedResult = new ArrayList<>();
         when(workoutService.compareWorkouts(any(UUID.class), any(UUID.class)))
-                .thenThrow(ResourceNotFoundException.class);
+                .thenReturn(expectedResult);
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
                 .get(PATH + "/compareWorkouts/" + UUID.randomUUID()
@@ -597,10 +699,8 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .contentType(MediaType.APPLICATION_JSON);
 
         mockMvc.perform(mockRequest)
-                .andExpect(status().isNotFound())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof ResourceNotFoundException));
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedResult)));
 
         verify(workoutService, times(1))
                 .compareWorkouts(any(UUID.class), any(UUID.class));
@@ -608,11 +708,10 @@ class WorkoutControllerTest extends ApplicationConfigTest {
 
     @Test
     @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void getWorkoutsComparison_invalidCheckOwnership() throws Exception {
+    @DisplayName("should throw ResourceNotFoundException if no workout is found")
+    void getWorkoutsComparison_noExerciseFound() throws Exception {
         when(workoutService.compareWorkouts(any(UUID.class), any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
+                .thenThrow(ResourceNotFoundException.class);
 
         MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
                 .get(PATH + "/compareWorkouts/" + UUID.randomUUID()
@@ -620,10 +719,10 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .contentType(MediaType.APPLICATION_JSON);
 
         mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
+                .andExpect(status().isNotFound())
                 .andExpect(result ->
                         assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
+                                instanceof ResourceNotFoundException));
 
         verify(workoutService, times(1))
                 .compareWorkouts(any(UUID.class), any(UUID.class));
@@ -690,30 +789,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .getUniqueWorkoutExercises(any(UUID.class), any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void getUniqueOldWorkoutExercises_invalidCheckOwnership() throws Exception {
-        when(workoutService.getUniqueWorkoutExercises
-                (any(UUID.class), any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/uniqueOldExercises/" + UUID.randomUUID()
-                        + "/" + UUID.randomUUID())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .getUniqueWorkoutExercises(any(UUID.class), any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void getUniqueOldWorkoutExercises_invalidUser() throws Exception {
@@ -776,30 +851,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .getUniqueWorkoutExercises(any(UUID.class), any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void getUniqueCurrentWorkoutExercises_invalidCheckOwnership() throws Exception {
-        when(workoutService.getUniqueWorkoutExercises
-                (any(UUID.class), any(UUID.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .get(PATH + "/uniqueCurrentExercises/" + UUID.randomUUID()
-                        + "/" + UUID.randomUUID())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .getUniqueWorkoutExercises(any(UUID.class), any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void getUniqueCurrentWorkoutExercises_invalidUser() throws Exception {
@@ -883,30 +934,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .update(any(UUID.class), any(WorkoutDto.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void update_invalidCheckOwnership() throws Exception {
-        when(workoutService.update(any(UUID.class), any(WorkoutDto.class)))
-                .thenThrow(UnauthorizedAccessException.class);
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .patch(PATH + "/" + WORKOUT_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(WORKOUT_DTO_RECORD));
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .update(any(UUID.class), any(WorkoutDto.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void update_invalidUser() throws Exception {
@@ -959,28 +986,6 @@ class WorkoutControllerTest extends ApplicationConfigTest {
                 .delete(any(UUID.class));
     }
 
-    @Test
-    @WithMockUser
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void delete_invalidCheckOwnership() throws Exception {
-        doThrow(UnauthorizedAccessException.class)
-                .when(workoutService).delete(any(UUID.class));
-
-        MockHttpServletRequestBuilder mockRequest = MockMvcRequestBuilders
-                .delete(PATH + "/" + WORKOUT_RECORD.getId())
-                .contentType(MediaType.APPLICATION_JSON);
-
-        mockMvc.perform(mockRequest)
-                .andExpect(status().isForbidden())
-                .andExpect(result ->
-                        assertTrue(result.getResolvedException()
-                                instanceof UnauthorizedAccessException));
-
-        verify(workoutService, times(1))
-                .delete(any(UUID.class));
-    }
-
     @Test
     @DisplayName("should return 403 - Forbidden if user is not authenticated")
     void delete_invalidUser() throws Exception {
@@ -1,6 +1,9 @@
 package com.dev.logBook.repositories;
 
+import com.dev.logBook.dtos.ExerciseSetDto;
+import com.dev.logBook.dtos.SummarizedSetDto;
 import com.dev.logBook.entities.Exercise;
+import com.dev.logBook.entities.ExerciseCatalogEntry;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.entities.enums.Role;
@@ -10,13 +13,18 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 class ExerciseRepositoryTest {
@@ -30,6 +38,9 @@ class ExerciseRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ExerciseCatalogRepository exerciseCatalogRepository;
+
     @AfterEach
     void tearDown() throws Exception {
         subject.deleteAll();
@@ -66,4 +77,181 @@ class ExerciseRepositoryTest {
 
         assertEquals(Collections.singletonList(EXERCISE_RECORD), result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should assign time-ordered ids on insert")
+    void save_timeOrderedIds() throws Exception {
+        User USER_RECORD = new User("username", "email",
+                "password", Role.ROLE_USER);
+        userRepository.save(USER_RECORD);
+
+        Workout WORKOUT_RECORD = Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build();
+        workoutRepository.save(WORKOUT_RECORD);
+
+        Exercise first = subject.save(Exercise.builder().name("first")
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build());
+        Exercise second = subject.save(Exercise.builder().name("second")
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build());
+
+        assertEquals(7, USER_RECORD.getId().version());
+        assertEquals(7, WORKOUT_RECORD.getId().version());
+        assertTrue(first.getId().compareTo(second.getId()) < 0);
+    }
+
+    @Test
+    @DisplayName("should page through the exercises by creation time and id")
+    void findPageByUserIdAfter() throws Exception {
+        User USER_RECORD = new User("username", "email",
+                "password", Role.ROLE_USER);
+        userRepository.save(USER_RECORD);
+
+        Workout WORKOUT_RECORD = Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build();
+        workoutRepository.save(WORKOUT_RECORD);
+
+        for (int i = 0; i < 3; i++) {
+            subject.save(Exercise.builder()
+                    .name("name" + i)
+                    .weight(BigDecimal.valueOf(50))
+                    .reps(10)
+                    .rir(0)
+                    .createdAt(1000L + i)
+                    .workout(WORKOUT_RECORD)
+                    .user(USER_RECORD)
+                    .build());
+        }
+
+        List<Exercise> firstPage = subject.findFirstPageByUserId(USER_RECORD.getId(),
+                PageRequest.of(0, 2));
+        Exercise last = firstPage.get(1);
+        List<Exercise> secondPage = subject.findPageByUserIdAfter(USER_RECORD.getId(),
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        assertEquals("name2", firstPage.get(0).getName());
+        assertEquals("name1", last.getName());
+        assertEquals(1, secondPage.size());
+        assertEquals("name0", secondPage.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("should project the sets of one catalog entry of a workout for the summaries")
+    void findSummarizedSetsByWorkoutIdAndCatalogId() throws Exception {
+        User USER_RECORD = userRepository.save(new User("username", "email",
+                "password", Role.ROLE_USER));
+        Workout WORKOUT_RECORD = workoutRepository.save(Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        ExerciseCatalogEntry benchPress = exerciseCatalogRepository.save(
+                new ExerciseCatalogEntry(null, "bench press", "Bench Press"));
+        ExerciseCatalogEntry dips = exerciseCatalogRepository.save(
+                new ExerciseCatalogEntry(null, "dips", "Dips"));
+
+        Exercise heavy = Exercise.builder().name("Bench Press").catalogId(benchPress.getId())
+                .weight(new BigDecimal("52.5")).reps(8)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        subject.saveAll(List.of(heavy,
+                Exercise.builder().name("bench press").catalogId(benchPress.getId())
+                        .weight(BigDecimal.valueOf(50)).reps(10)
+                        .workout(WORKOUT_RECORD).user(USER_RECORD).build(),
+                Exercise.builder().name("Dips").catalogId(dips.getId())
+                        .weight(BigDecimal.valueOf(20)).reps(12)
+                        .workout(WORKOUT_RECORD).user(USER_RECORD).build()));
+
+        List<SummarizedSetDto> result = subject
+                .findSummarizedSetsByWorkoutIdAndCatalogId(WORKOUT_RECORD.getId(), benchPress.getId());
+        SummarizedSetDto single = subject
+                .findSummarizedSetByIdAndUserId(heavy.getId(), USER_RECORD.getId()).orElseThrow();
+
+        assertEquals(Set.of(8, 10), result.stream().map(SummarizedSetDto::reps).collect(Collectors.toSet()));
+        assertEquals(List.of(WORKOUT_RECORD.getId()), subject.findWorkoutIdsByCatalogId(benchPress.getId()));
+        assertEquals(3, subject.findRefsByWorkoutIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()).size());
+        assertEquals(WORKOUT_RECORD.getId(), single.workoutId());
+        assertEquals(benchPress.getId(), single.catalogId());
+        assertEquals(0, new BigDecimal("52.5").compareTo(single.weight()));
+        assertTrue(subject.findSummarizedSetByIdAndUserId(heavy.getId(), UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should return the best set of a user and exercise, the earliest on a tie")
+    void findBestSets() throws Exception {
+        User USER_RECORD = userRepository.save(new User("username", "email",
+                "password", Role.ROLE_USER));
+        Workout WORKOUT_RECORD = workoutRepository.save(Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        ExerciseCatalogEntry benchPress = exerciseCatalogRepository.save(
+                new ExerciseCatalogEntry(null, "bench press", "Bench Press"));
+
+        Exercise heaviest = Exercise.builder().name("Bench Press").catalogId(benchPress.getId())
+                .weight(BigDecimal.valueOf(100)).reps(2).e1rm(new BigDecimal("105.88"))
+                .volume(new BigDecimal("200.00")).createdAt(1000L)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        Exercise laterEqual = Exercise.builder().name("Bench Press").catalogId(benchPress.getId())
+                .weight(BigDecimal.valueOf(100)).reps(1).e1rm(new BigDecimal("100.00"))
+                .volume(new BigDecimal("100.00")).createdAt(2000L)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        Exercise longest = Exercise.builder().name("Bench Press").catalogId(benchPress.getId())
+                .weight(BigDecimal.valueOf(80)).reps(10).e1rm(new BigDecimal("106.67"))
+                .volume(new BigDecimal("800.00")).createdAt(3000L)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        subject.saveAll(List.of(heaviest, laterEqual, longest));
+
+        PageRequest best = PageRequest.of(0, 1);
+        assertEquals(heaviest.getId(), subject
+                .findHeaviestSets(USER_RECORD.getId(), benchPress.getId(), best).get(0).id());
+        assertEquals(longest.getId(), subject
+                .findBestE1rmSets(USER_RECORD.getId(), benchPress.getId(), best).get(0).id());
+        assertEquals(longest.getId(), subject
+                .findBestVolumeSets(USER_RECORD.getId(), benchPress.getId(), best).get(0).id());
+        assertTrue(subject.findHeaviestSets(UUID.randomUUID(), benchPress.getId(), best).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should only return the sets outside the reps range of their workout")
+    void findOutsideRepsRangeByWorkoutId() throws Exception {
+        User USER_RECORD = userRepository.save(new User("username", "email",
+                "password", Role.ROLE_USER));
+        Workout WORKOUT_RECORD = workoutRepository.save(Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+
+        Exercise tooFew = Exercise.builder().name("too few").weight(BigDecimal.TEN).reps(7)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        Exercise inside = Exercise.builder().name("inside").weight(BigDecimal.TEN).reps(12)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        Exercise tooMany = Exercise.builder().name("too many").weight(BigDecimal.TEN).reps(13)
+                .workout(WORKOUT_RECORD).user(USER_RECORD).build();
+        subject.saveAll(List.of(tooFew, inside, tooMany));
+
+        List<ExerciseSetDto> result =
+                subject.findOutsideRepsRangeByWorkoutId(WORKOUT_RECORD.getId(), USER_RECORD.getId());
+
+        assertEquals(Set.of(tooFew.getId(), tooMany.getId()),
+                result.stream().map(ExerciseSetDto::id).collect(Collectors.toSet()));
+        assertEquals(Collections.emptyList(),
+                subject.findOutsideRepsRangeByWorkoutId(WORKOUT_RECORD.getId(), UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.dev.logBook.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaMigrationTest {
+
+    private static final String USER_ID = UUID.randomUUID().toString();
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should apply every versioned migration and validate the entities against them")
+    void migrate_applied() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertThat(applied).containsExactly("1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "idx_workouts_user_muscle_date",
+            "idx_workouts_previous_comparable",
+            "idx_workouts_user_date_id",
+            "idx_exercises_workout_id",
+            "idx_exercises_user_created_at_id",
+            "idx_exercises_catalog_id",
+            "idx_refresh_tokens_user_id",
+            "idx_refresh_tokens_expires_at",
+            "idx_revoked_tokens_expires_at",
+            "idx_workout_summaries_user_muscle_date",
+            "idx_exercises_user_catalog_weight",
+            "idx_exercises_user_catalog_e1rm",
+            "idx_exercises_user_catalog_volume",
+            "idx_personal_records_catalog_id"
+    })
+    @DisplayName("should create the hot path indexes")
+    void migrate_indexes(String index) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE LOWER(INDEX_NAME) = ?",
+                Integer.class, index);
+
+        assertThat(count).isPositive();
+    }
+
+    @Test
+    @DisplayName("should look up workouts by user and muscle through an index")
+    void explain_workoutsByMuscleAndUser() {
+        assertThat(explain("SELECT * FROM workouts WHERE muscle = 1 AND user_id = '" + USER_ID + "'"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should look up the previous comparable workout through an index")
+    void explain_previousComparable() {
+        assertThat(explain("SELECT * FROM workouts WHERE user_id = '" + USER_ID + "' AND muscle = 1 " +
+                "AND lower_reps_range = 8 AND upper_reps_range = 12 AND date < DATE '2023-05-01' " +
+                "ORDER BY date DESC LIMIT 1"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should load and delete the exercises of a workout through an index")
+    void explain_exercisesByWorkout() {
+        assertThat(explain("SELECT * FROM exercises WHERE workout_id = '" + USER_ID + "'"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should page through the exercises of a user through an index")
+    void explain_exercisesByUserAndCreatedAt() {
+        assertThat(explain("SELECT * FROM exercises WHERE user_id = '" + USER_ID + "' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 20"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should read the daily volume of a muscle through an index")
+    void explain_dailyVolume() {
+        assertThat(explain("SELECT date, total_volume, set_count FROM workout_summaries " +
+                "WHERE user_id = '" + USER_ID + "' AND muscle = 1 " +
+                "AND date BETWEEN DATE '2020-01-01' AND DATE '2023-12-31' ORDER BY date"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should find the next best set of an exercise through an index")
+    void explain_nextBestSet() {
+        assertThat(explain("SELECT id FROM exercises WHERE user_id = '" + USER_ID + "' " +
+                "AND catalog_id = 1 AND e1rm IS NOT NULL ORDER BY e1rm DESC LIMIT 1"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("should read the records of a user through the primary key")
+    void explain_personalRecords() {
+        assertThat(explain("SELECT * FROM personal_records WHERE user_id = '" + USER_ID + "'"))
+                .doesNotContain("tableScan");
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+}
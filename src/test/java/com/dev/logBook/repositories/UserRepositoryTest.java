@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
@@ -31,4 +33,18 @@ class UserRepositoryTest {
 
         assertEquals(USER_RECORD, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should count users by password hash cost")
+    void countByPasswordCost() throws Exception {
+        subject.save(new User("user1", "email1", "$2a$10$hash", Role.ROLE_USER));
+        subject.save(new User("user2", "email2", "$2a$10$hash", Role.ROLE_USER));
+        subject.save(new User("user3", "email3", "$2a$12$hash", Role.ROLE_USER));
+
+        List<UserRepository.PasswordCostCount> result = subject.countByPasswordCost();
+
+        assertEquals(2, result.size());
+        result.forEach(count -> assertEquals(count.getCost().equals("10") ? 2 : 1,
+                count.getUsers()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.entities.Exercise;
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.Workout;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.enums.Muscles;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WorkoutRepositoryQueryCountTest {
+
+    @Autowired
+    private WorkoutRepository subject;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    User USER_RECORD;
+    Statistics statistics;
+    // deleteAll only flushes after the next inserts, so every fixture workout gets its own date
+    int daysAgo;
+
+    @BeforeEach
+    void setup() {
+        USER_RECORD = userRepository.save(new User("username", "email",
+                "password", Role.ROLE_USER));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("should load workouts by user with their exercises in a constant number of queries")
+    void findByUserId_constantQueries() {
+        long few = countQueries(2, () -> subject.findByUserId(USER_RECORD.getId()));
+        long many = countQueries(30, () -> subject.findByUserId(USER_RECORD.getId()));
+
+        assertEquals(few, many);
+        assertTrue(many <= 2, "statements: " + many);
+    }
+
+    @Test
+    @DisplayName("should load workouts by muscle with their exercises in a constant number of queries")
+    void findByMuscleAndUserId_constantQueries() {
+        long few = countQueries(2, () ->
+                subject.findByMuscleAndUserId(Muscles.CHEST, USER_RECORD.getId()));
+        long many = countQueries(30, () ->
+                subject.findByMuscleAndUserId(Muscles.CHEST, USER_RECORD.getId()));
+
+        assertEquals(few, many);
+        assertTrue(many <= 2, "statements: " + many);
+    }
+
+    @Test
+    @DisplayName("should initialize the exercises of a page in batches")
+    void findFirstPageByUserId_batchFetch() {
+        long few = countQueries(2, () ->
+                subject.findFirstPageByUserId(USER_RECORD.getId(), PageRequest.of(0, 50)));
+        long many = countQueries(30, () ->
+                subject.findFirstPageByUserId(USER_RECORD.getId(), PageRequest.of(0, 50)));
+
+        assertEquals(few, many);
+    }
+
+    @Test
+    @DisplayName("should delete a workout with 40 exercises in two statements")
+    void deleteByIdAndUserId_twoStatements() {
+        Workout workout = subject.save(Workout.builder()
+                .date(LocalDate.now())
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        for (int i = 0; i < 40; i++) {
+            exerciseRepository.save(Exercise.builder()
+                    .name("name" + i)
+                    .weight(BigDecimal.valueOf(50))
+                    .reps(10)
+                    .rir(0)
+                    .createdAt(System.currentTimeMillis())
+                    .workout(workout)
+                    .user(USER_RECORD)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        int exercises = exerciseRepository.deleteByWorkoutIdAndUserId(workout.getId(),
+                USER_RECORD.getId());
+        int workouts = subject.deleteByIdAndUserId(workout.getId(), USER_RECORD.getId());
+
+        assertEquals(40, exercises);
+        assertEquals(1, workouts);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(subject.findById(workout.getId()).isEmpty());
+    }
+
+    private long countQueries(int workouts, Supplier<List<Workout>> query) {
+        subject.deleteAll();
+        for (int i = 0; i < workouts; i++) {
+            Workout workout = subject.save(Workout.builder()
+                    .date(LocalDate.now().minusDays(daysAgo++))
+                    .muscle(Muscles.CHEST)
+                    .user(USER_RECORD)
+                    .lowerRepsRange(8)
+                    .upperRepsRange(12)
+                    .build());
+            for (int j = 0; j < 2; j++) {
+                exerciseRepository.save(Exercise.builder()
+                        .name("name" + j)
+                        .weight(BigDecimal.valueOf(50))
+                        .reps(10)
+                        .rir(0)
+                        .createdAt(System.currentTimeMillis())
+                        .workout(workout)
+                        .user(USER_RECORD)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Workout> result = query.get();
+        result.forEach(workout -> assertEquals(2, workout.getExercises().size()));
+
+        assertEquals(workouts, result.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
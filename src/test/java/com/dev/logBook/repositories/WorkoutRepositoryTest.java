@@ -1,5 +1,6 @@
 package com.dev.logBook.repositories;
 
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.Workout;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,6 +21,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 class WorkoutRepositoryTest {
@@ -78,6 +82,20 @@ class WorkoutRepositoryTest {
         assertEquals(Collections.singletonList(WORKOUT_RECORD), result);
     }
 
+    @Test
+    @DisplayName("should find a workout by id only for its owner")
+    void findByIdAndUserId() throws Exception {
+        User otherUser = userRepository.save(new User("other", "other@email",
+                "password", Role.ROLE_USER));
+
+        assertEquals(Optional.of(WORKOUT_RECORD),
+                subject.findByIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()));
+        assertEquals(Optional.empty(),
+                subject.findByIdAndUserId(WORKOUT_RECORD.getId(), otherUser.getId()));
+        assertTrue(subject.existsByIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()));
+        assertFalse(subject.existsByIdAndUserId(WORKOUT_RECORD.getId(), otherUser.getId()));
+    }
+
     @Test
     @DisplayName("should find a workout by the date, muscle and user id")
     void findByDateAndMuscleAndUserId() throws Exception {
@@ -96,4 +114,87 @@ class WorkoutRepositoryTest {
         assertEquals(Collections.singletonList(WORKOUT_RECORD), result);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("should return the most recent earlier workout with the same muscle and reps range")
+    void findPreviousComparable() throws Exception {
+        Workout older = subject.save(Workout.builder()
+                .date(WORKOUT_RECORD.getDate().minusDays(14))
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        Workout previous = subject.save(Workout.builder()
+                .date(WORKOUT_RECORD.getDate().minusDays(7))
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        subject.save(Workout.builder()
+                .date(WORKOUT_RECORD.getDate().minusDays(3))
+                .muscle(Muscles.CHEST)
+                .user(USER_RECORD)
+                .lowerRepsRange(4)
+                .upperRepsRange(6)
+                .build());
+
+        Optional<Workout> result = subject
+                .findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+                        (USER_RECORD.getId(), Muscles.CHEST, 8, 12, WORKOUT_RECORD.getDate());
+
+        assertEquals(Optional.of(previous), result);
+
+        Optional<Workout> none = subject
+                .findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+                        (USER_RECORD.getId(), Muscles.CHEST, 8, 12, older.getDate());
+
+        assertEquals(Optional.empty(), none);
+    }
+
+    @Test
+    @DisplayName("should page through the workouts by date and id without skipping rows")
+    void findPageByUserIdAfter() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            subject.save(Workout.builder()
+                    .date(WORKOUT_RECORD.getDate().minusDays(i))
+                    .muscle(Muscles.BACK)
+                    .user(USER_RECORD)
+                    .lowerRepsRange(8)
+                    .upperRepsRange(12)
+                    .build());
+        }
+
+        List<Workout> firstPage = subject.findFirstPageByUserId(USER_RECORD.getId(),
+                PageRequest.of(0, 2));
+        Workout last = firstPage.get(1);
+        List<Workout> secondPage = subject.findPageByUserIdAfter(USER_RECORD.getId(),
+                last.getDate(), last.getId(), PageRequest.of(0, 2));
+
+        assertEquals(WORKOUT_RECORD, firstPage.get(0));
+        assertEquals(WORKOUT_RECORD.getDate().minusDays(1), last.getDate());
+        assertEquals(2, secondPage.size());
+        assertEquals(WORKOUT_RECORD.getDate().minusDays(2), secondPage.get(0).getDate());
+        assertEquals(WORKOUT_RECORD.getDate().minusDays(3), secondPage.get(1).getDate());
+    }
+
+    @Test
+    @DisplayName("should return workout summaries with the exercise count")
+    void findSummariesByUserId() throws Exception {
+        Workout empty = subject.save(Workout.builder()
+                .date(WORKOUT_RECORD.getDate().minusDays(1))
+                .muscle(Muscles.BACK)
+                .user(USER_RECORD)
+                .lowerRepsRange(4)
+                .upperRepsRange(6)
+                .build());
+
+        List<WorkoutSummaryDto> result = subject.findSummariesByUserId(USER_RECORD.getId());
+
+        assertEquals(List.of(
+                new WorkoutSummaryDto(WORKOUT_RECORD.getId(), WORKOUT_RECORD.getDate(),
+                        Muscles.CHEST, 8, 12, 1),
+                new WorkoutSummaryDto(empty.getId(), empty.getDate(), Muscles.BACK, 4, 6, 0)
+        ), result);
+    }
+}
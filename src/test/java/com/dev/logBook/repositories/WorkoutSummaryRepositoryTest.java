@@ -0,0 +1,89 @@
+package com.dev.logBook.repositories;
+
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.Workout;
+import com.dev.logBook.entities.WorkoutSummary;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.enums.Muscles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class WorkoutSummaryRepositoryTest {
+
+    @Autowired
+    private WorkoutSummaryRepository subject;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    User USER_RECORD;
+
+    @BeforeEach
+    void setup() throws Exception {
+        USER_RECORD = userRepository.save(new User("username", "email",
+                "password", Role.ROLE_USER));
+    }
+
+    @Test
+    @DisplayName("should return the daily volume of one muscle inside the range in date order")
+    void findDailyVolume() throws Exception {
+        save(Muscles.CHEST, LocalDate.of(2023, 5, 3), "700");
+        save(Muscles.CHEST, LocalDate.of(2023, 5, 1), "500");
+        save(Muscles.BACK, LocalDate.of(2023, 5, 2), "900");
+        save(Muscles.CHEST, LocalDate.of(2023, 6, 1), "800");
+
+        List<VolumePointDto> result = subject.findDailyVolume(USER_RECORD.getId(), Muscles.CHEST,
+                LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 31));
+
+        assertEquals(List.of(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 3)),
+                result.stream().map(VolumePointDto::date).toList());
+        assertEquals(0, new BigDecimal("500").compareTo(result.get(0).volume()));
+    }
+
+    @Test
+    @DisplayName("should move a summary to the muscle and date of its workout")
+    void updateMuscleAndDate() throws Exception {
+        WorkoutSummary summary = save(Muscles.CHEST, LocalDate.of(2023, 5, 1), "500");
+
+        subject.updateMuscleAndDate(summary.getWorkoutId(), Muscles.BACK, LocalDate.of(2023, 5, 2));
+
+        assertEquals(List.of(LocalDate.of(2023, 5, 2)),
+                subject.findDailyVolume(USER_RECORD.getId(), Muscles.BACK,
+                                LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 31)).stream()
+                        .map(VolumePointDto::date).toList());
+    }
+
+    private WorkoutSummary save(Muscles muscle, LocalDate date, String volume) {
+        Workout workout = workoutRepository.save(Workout.builder()
+                .date(date)
+                .muscle(muscle)
+                .user(USER_RECORD)
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .build());
+        return subject.save(WorkoutSummary.builder()
+                .workoutId(workout.getId())
+                .userId(USER_RECORD.getId())
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .muscle(muscle)
+                .date(date)
+                .setCount(1)
+                .totalVolume(new BigDecimal(volume))
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.VolumePointDto;
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.enums.VolumeBucket;
+import com.dev.logBook.repositories.WorkoutSummaryRepository;
+import com.dev.logBook.services.exceptions.InvalidAnalyticsQueryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AnalyticsServiceTest extends ApplicationConfigTest {
+
+    User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
+    LocalDate FROM = LocalDate.of(2023, 4, 1);
+    LocalDate TO = LocalDate.of(2023, 5, 31);
+    // 2023-04-03 is a monday and shares its week with 2023-04-06
+    List<VolumePointDto> DAILY_VOLUME_RECORD = List.of(
+            new VolumePointDto(LocalDate.of(2023, 4, 3), new BigDecimal("1000.00"), 10),
+            new VolumePointDto(LocalDate.of(2023, 4, 6), new BigDecimal("500.00"), 5),
+            new VolumePointDto(LocalDate.of(2023, 4, 28), new BigDecimal("800.00"), 8),
+            new VolumePointDto(LocalDate.of(2023, 5, 2), new BigDecimal("900.00"), 9));
+    @Autowired
+    private AnalyticsService analyticsService;
+    @MockBean
+    private WorkoutSummaryRepository workoutSummaryRepository;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(USER_RECORD, "id", UUID.randomUUID());
+
+        // implements getCurrentUser behaviour
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(USER_RECORD);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        when(workoutSummaryRepository.findDailyVolume(USER_RECORD.getId(), Muscles.CHEST, FROM, TO))
+                .thenReturn(DAILY_VOLUME_RECORD);
+    }
+
+    @Test
+    @DisplayName("should return the daily rollups as they are")
+    void getVolume_day() {
+        assertEquals(DAILY_VOLUME_RECORD, analyticsService.getVolume(Muscles.CHEST, FROM, TO, VolumeBucket.DAY));
+    }
+
+    @Test
+    @DisplayName("should merge the daily rollups into weeks starting on monday")
+    void getVolume_week() {
+        List<VolumePointDto> result = analyticsService.getVolume(Muscles.CHEST, FROM, TO, VolumeBucket.WEEK);
+
+        assertEquals(List.of(
+                new VolumePointDto(LocalDate.of(2023, 4, 3), new BigDecimal("1500.00"), 15),
+                new VolumePointDto(LocalDate.of(2023, 4, 24), new BigDecimal("800.00"), 8),
+                new VolumePointDto(LocalDate.of(2023, 5, 1), new BigDecimal("900.00"), 9)), result);
+    }
+
+    @Test
+    @DisplayName("should merge the daily rollups into calendar months")
+    void getVolume_month() {
+        List<VolumePointDto> result = analyticsService.getVolume(Muscles.CHEST, FROM, TO, VolumeBucket.MONTH);
+
+        assertEquals(List.of(
+                new VolumePointDto(LocalDate.of(2023, 4, 1), new BigDecimal("2300.00"), 23),
+                new VolumePointDto(LocalDate.of(2023, 5, 1), new BigDecimal("900.00"), 9)), result);
+    }
+
+    @Test
+    @DisplayName("should throw InvalidAnalyticsQueryException if the range is reversed")
+    void getVolume_reversedRange() {
+        assertThrows(InvalidAnalyticsQueryException.class, () ->
+                analyticsService.getVolume(Muscles.CHEST, TO, FROM, VolumeBucket.DAY));
+
+        verify(workoutSummaryRepository, never()).findDailyVolume(any(), any(), any(), any());
+    }
+}
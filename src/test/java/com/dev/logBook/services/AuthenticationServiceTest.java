@@ -1,12 +1,19 @@
 package com.dev.logBook.services;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dev.logBook.ApplicationConfigTest;
 import com.dev.logBook.controller.dto.LoginDTO;
 import com.dev.logBook.controller.dto.RegisterDTO;
+import com.dev.logBook.entities.RefreshToken;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.repositories.RefreshTokenRepository;
 import com.dev.logBook.repositories.UserRepository;
+import com.dev.logBook.services.exceptions.AuthenticationBusyException;
+import com.dev.logBook.services.exceptions.InvalidTokenException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
+import com.dev.logBook.services.utils.AuthTokens;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +24,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,6 +42,12 @@ class AuthenticationServiceTest extends ApplicationConfigTest {
     User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
     RegisterDTO REGISTER_DTO_RECORD = new RegisterDTO(USER_RECORD.getUsername(), USER_RECORD.getPassword(), USER_RECORD.getEmail());
     LoginDTO LOGIN_DTO_RECORD = new LoginDTO(USER_RECORD.getUsername(), USER_RECORD.getPassword());
+    RefreshToken REFRESH_TOKEN_RECORD = RefreshToken.builder()
+            .id(UUID.randomUUID())
+            .tokenHash(TokenService.digest("refresh"))
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .user(USER_RECORD)
+            .build();
 
     @Autowired
     private AuthenticationService authenticationService;
@@ -36,6 +57,17 @@ class AuthenticationServiceTest extends ApplicationConfigTest {
     private TokenService tokenService;
     @MockBean
     private UserRepository userRepository;
+    @MockBean
+    private RefreshTokenRepository refreshTokenRepository;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setupData() {
+        ReflectionTestUtils.setField(USER_RECORD, "id", UUID.randomUUID());
+        when(tokenService.generateRefreshToken()).thenReturn("newRefresh");
+        when(tokenService.getRefreshTokenExpiresAt()).thenReturn(Instant.now().plusSeconds(3600));
+    }
 
     @Test
     @DisplayName("should return an user")
@@ -72,12 +104,14 @@ class AuthenticationServiceTest extends ApplicationConfigTest {
         String token = "token";
         when(tokenService.generateToken(any(User.class))).thenReturn(token);
 
-        String result = authenticationService.register(REGISTER_DTO_RECORD);
+        AuthTokens result = authenticationService.register(REGISTER_DTO_RECORD);
 
-        assertEquals(token, result);
+        assertEquals(token, result.accessToken());
+        assertEquals("newRefresh", result.refreshToken());
 
         verify(userRepository, times(1)).save(any(User.class));
         verify(tokenService, times(1)).generateToken(any(User.class));
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
     }
 
     @Test
@@ -105,9 +139,10 @@ class AuthenticationServiceTest extends ApplicationConfigTest {
         when(authenticate.getPrincipal()).thenReturn(USER_RECORD);
         when(tokenService.generateToken(any(User.class))).thenReturn(token);
 
-        String result = authenticationService.login(LOGIN_DTO_RECORD);
+        AuthTokens result = authenticationService.login(LOGIN_DTO_RECORD);
 
-        assertEquals(token, result);
+        assertEquals(token, result.accessToken());
+        assertEquals("newRefresh", result.refreshToken());
 
         verify(authenticationManager, times(1))
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
@@ -115,4 +150,132 @@ class AuthenticationServiceTest extends ApplicationConfigTest {
         verify(tokenService, times(1)).generateToken(any(User.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("should store the upgraded password hash")
+    void updatePassword_successful() {
+        when(userRepository.save(any(User.class))).thenReturn(USER_RECORD);
+
+        authenticationService.updatePassword(USER_RECORD, "upgradedHash");
+
+        assertEquals("upgradedHash", USER_RECORD.getPassword());
+
+        verify(userRepository, times(1)).save(USER_RECORD);
+    }
+
+    @Test
+    @DisplayName("should return a token from the hashing pool")
+    void loginAsync_successful() throws Exception {
+        String token = "token";
+        Authentication authenticate = mock(Authentication.class);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authenticate);
+        when(authenticate.getPrincipal()).thenReturn(USER_RECORD);
+        when(tokenService.generateToken(any(User.class))).thenReturn(token);
+
+        AuthTokens result = authenticationService.loginAsync(LOGIN_DTO_RECORD)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(token, result.accessToken());
+
+        verify(authenticationManager, times(1))
+                .authenticate(any(UsernamePasswordAuthenticationToken.class));
+    }
+
+    @Test
+    @DisplayName("should throw AuthenticationBusyException if the hashing pool is saturated")
+    void loginAsync_poolSaturated() {
+        Object executor = ReflectionTestUtils.getField(authenticationService,
+                "passwordHashingExecutor");
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1));
+        saturated.shutdown();
+        ReflectionTestUtils.setField(authenticationService, "passwordHashingExecutor", saturated);
+        try {
+            assertThrows(AuthenticationBusyException.class, () ->
+                    authenticationService.loginAsync(LOGIN_DTO_RECORD));
+
+            verify(authenticationManager, never())
+                    .authenticate(any(UsernamePasswordAuthenticationToken.class));
+        } finally {
+            ReflectionTestUtils.setField(authenticationService, "passwordHashingExecutor", executor);
+        }
+    }
+
+    @Test
+    @DisplayName("should rotate the refresh token")
+    void refresh_successful() {
+        when(refreshTokenRepository.findByTokenHash(TokenService.digest("refresh")))
+                .thenReturn(Optional.of(REFRESH_TOKEN_RECORD));
+        when(refreshTokenRepository.revokeIfActive(REFRESH_TOKEN_RECORD.getId())).thenReturn(1);
+        when(tokenService.generateToken(USER_RECORD)).thenReturn("token");
+
+        AuthTokens result = authenticationService.refresh("refresh");
+
+        assertEquals("token", result.accessToken());
+        assertEquals("newRefresh", result.refreshToken());
+
+        verify(refreshTokenRepository, times(1)).revokeIfActive(REFRESH_TOKEN_RECORD.getId());
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any(UUID.class));
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("should revoke every refresh token of the user if a used one is presented")
+    void refresh_reusedToken() {
+        REFRESH_TOKEN_RECORD.setRevoked(true);
+        when(refreshTokenRepository.findByTokenHash(TokenService.digest("refresh")))
+                .thenReturn(Optional.of(REFRESH_TOKEN_RECORD));
+
+        assertThrows(InvalidTokenException.class, () -> authenticationService.refresh("refresh"));
+
+        verify(refreshTokenRepository, times(1)).revokeAllByUserId(USER_RECORD.getId());
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("should throw InvalidTokenException if the refresh token expired")
+    void refresh_expiredToken() {
+        REFRESH_TOKEN_RECORD.setExpiresAt(Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(TokenService.digest("refresh")))
+                .thenReturn(Optional.of(REFRESH_TOKEN_RECORD));
+        when(refreshTokenRepository.revokeIfActive(REFRESH_TOKEN_RECORD.getId())).thenReturn(1);
+
+        assertThrows(InvalidTokenException.class, () -> authenticationService.refresh("refresh"));
+
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("should throw InvalidTokenException if the refresh token is unknown")
+    void refresh_unknownToken() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidTokenException.class, () -> authenticationService.refresh("refresh"));
+
+        verify(tokenService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    @DisplayName("should revoke the access token and the refresh token on logout")
+    void logout_successful() {
+        DecodedJWT accessToken = mock(DecodedJWT.class);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(accessToken.getId()).thenReturn("jti");
+        when(accessToken.getExpiresAtAsInstant()).thenReturn(expiresAt);
+        when(refreshTokenRepository.findByTokenHash(TokenService.digest("refresh")))
+                .thenReturn(Optional.of(REFRESH_TOKEN_RECORD));
+
+        authenticationService.logout(accessToken, "refresh");
+
+        verify(tokenRevocationService, times(1)).revoke("jti", expiresAt);
+        verify(refreshTokenRepository, times(1)).revokeIfActive(REFRESH_TOKEN_RECORD.getId());
+    }
+
+    @Test
+    @DisplayName("should delete the expired refresh tokens")
+    void purgeExpiredRefreshTokens_successful() {
+        authenticationService.purgeExpiredRefreshTokens();
+
+        verify(refreshTokenRepository, times(1)).deleteExpired(any(Instant.class));
+    }
+}
@@ -0,0 +1,185 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.entities.ExerciseAlias;
+import com.dev.logBook.entities.ExerciseCatalogEntry;
+import com.dev.logBook.repositories.ExerciseAliasRepository;
+import com.dev.logBook.repositories.ExerciseCatalogRepository;
+import com.dev.logBook.repositories.ExerciseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseCatalogServiceTest {
+
+    static final String EXERCISE_NAME = "Bench-Press";
+    static final String NORMALIZED_NAME = "bench press";
+    static final ExerciseCatalogEntry CATALOG_ENTRY_RECORD =
+            new ExerciseCatalogEntry(7, NORMALIZED_NAME, EXERCISE_NAME);
+    @InjectMocks
+    private ExerciseCatalogService exerciseCatalogService;
+    @Mock
+    private ExerciseCatalogRepository exerciseCatalogRepository;
+    @Mock
+    private ExerciseAliasRepository exerciseAliasRepository;
+    @Mock
+    private ExerciseRepository exerciseRepository;
+    @Mock
+    private PersonalRecordService personalRecordService;
+    @Mock
+    private WorkoutSummaryService workoutSummaryService;
+
+    // every test gets a new service, so nothing stays cached from the test before
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(exerciseCatalogService, "transactionManager", new NoOpTransactionManager());
+        ReflectionTestUtils.setField(exerciseCatalogService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(exerciseCatalogService, "cacheSize", 100L);
+        exerciseCatalogService.initCaches();
+    }
+
+    @Test
+    @DisplayName("should resolve differently written names to the same cached catalog id")
+    void resolve_cached() {
+        when(exerciseAliasRepository.findById(NORMALIZED_NAME)).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.findByNormalizedName(NORMALIZED_NAME))
+                .thenReturn(Optional.of(CATALOG_ENTRY_RECORD));
+
+        assertEquals(7, exerciseCatalogService.resolve(EXERCISE_NAME));
+        assertEquals(7, exerciseCatalogService.resolve("  BENCH_PRESS "));
+
+        verify(exerciseCatalogRepository, times(1)).findByNormalizedName(NORMALIZED_NAME);
+    }
+
+    @Test
+    @DisplayName("should resolve an alias to the catalog id it points to")
+    void resolve_alias() {
+        when(exerciseAliasRepository.findById(NORMALIZED_NAME))
+                .thenReturn(Optional.of(new ExerciseAlias(NORMALIZED_NAME, 3)));
+
+        assertEquals(3, exerciseCatalogService.resolve(EXERCISE_NAME));
+
+        verify(exerciseCatalogRepository, never()).findByNormalizedName(any());
+    }
+
+    @Test
+    @DisplayName("should add unknown names to the catalog")
+    void resolve_create() {
+        when(exerciseAliasRepository.findById(NORMALIZED_NAME)).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.findByNormalizedName(NORMALIZED_NAME)).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.saveAndFlush(any(ExerciseCatalogEntry.class)))
+                .thenAnswer(invocation -> {
+                    ExerciseCatalogEntry entry = invocation.getArgument(0);
+                    return new ExerciseCatalogEntry(7, entry.getNormalizedName(), entry.getDisplayName());
+                });
+
+        assertEquals(7, exerciseCatalogService.resolve(EXERCISE_NAME));
+
+        verify(exerciseCatalogRepository, times(1))
+                .saveAndFlush(new ExerciseCatalogEntry(null, NORMALIZED_NAME, EXERCISE_NAME));
+    }
+
+    @Test
+    @DisplayName("should read back the entry a concurrent request inserted first")
+    void resolve_createConflict() {
+        when(exerciseAliasRepository.findById(NORMALIZED_NAME)).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.findByNormalizedName(NORMALIZED_NAME))
+                .thenReturn(Optional.empty(), Optional.of(CATALOG_ENTRY_RECORD));
+        when(exerciseCatalogRepository.saveAndFlush(any(ExerciseCatalogEntry.class)))
+                .thenThrow(DataIntegrityViolationException.class);
+
+        assertEquals(7, exerciseCatalogService.resolve(EXERCISE_NAME));
+
+        verify(exerciseCatalogRepository, times(2)).findByNormalizedName(NORMALIZED_NAME);
+    }
+
+    @Test
+    @DisplayName("should point an alias at the canonical entry and move its sets over")
+    void addAlias_successful() {
+        String alias = "bench";
+        when(exerciseAliasRepository.findById(any())).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.findByNormalizedName(NORMALIZED_NAME))
+                .thenReturn(Optional.of(CATALOG_ENTRY_RECORD));
+        when(exerciseCatalogRepository.findByNormalizedName(alias))
+                .thenReturn(Optional.of(new ExerciseCatalogEntry(5, alias, alias)));
+        UUID workoutId = UUID.randomUUID();
+        when(exerciseRepository.findWorkoutIdsByCatalogId(5)).thenReturn(List.of(workoutId));
+
+        assertEquals(7, exerciseCatalogService.addAlias(alias, EXERCISE_NAME));
+        assertEquals(7, exerciseCatalogService.resolve(alias));
+
+        verify(exerciseRepository, times(1)).reassignCatalogId(5, 7);
+        verify(workoutSummaryService, times(1)).rebuildAll(List.of(workoutId));
+        verify(personalRecordService, times(1)).merge(5, 7);
+        verify(exerciseAliasRepository, times(1)).save(new ExerciseAlias(alias, 7));
+    }
+
+    @Test
+    @DisplayName("should not cache an alias whose transaction rolled back")
+    void addAlias_rolledBack() {
+        String alias = "bench";
+        when(exerciseAliasRepository.findById(any())).thenReturn(Optional.empty());
+        when(exerciseCatalogRepository.findByNormalizedName(NORMALIZED_NAME))
+                .thenReturn(Optional.of(CATALOG_ENTRY_RECORD));
+        when(exerciseCatalogRepository.findByNormalizedName(alias))
+                .thenReturn(Optional.of(new ExerciseCatalogEntry(5, alias, alias)));
+        when(exerciseAliasRepository.save(any(ExerciseAlias.class)))
+                .thenThrow(DataIntegrityViolationException.class);
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> exerciseCatalogService.addAlias(alias, EXERCISE_NAME));
+
+        assertEquals(5, exerciseCatalogService.resolve(alias));
+    }
+
+    @Test
+    @DisplayName("should cache display names by catalog id")
+    void getDisplayName_cached() {
+        when(exerciseCatalogRepository.findById(7)).thenReturn(Optional.of(CATALOG_ENTRY_RECORD));
+
+        assertEquals(EXERCISE_NAME, exerciseCatalogService.getDisplayName(7));
+        assertEquals(EXERCISE_NAME, exerciseCatalogService.getDisplayName(7));
+
+        verify(exerciseCatalogRepository, times(1)).findById(7);
+    }
+
+    // commits and rolls back nothing, but runs the synchronizations like a real transaction
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
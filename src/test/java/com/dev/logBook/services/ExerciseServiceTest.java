@@ -1,24 +1,33 @@
 package com.dev.logBook.services;
 
 import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
+import com.dev.logBook.dtos.SummarizedSetDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.enums.Muscles;
 import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.UserRepository;
+import com.dev.logBook.repositories.WorkoutRepository;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
+import com.dev.logBook.services.utils.KeysetCursor;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,7 +37,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -65,7 +76,15 @@ class ExerciseServiceTest extends ApplicationConfigTest {
     @MockBean
     private ExerciseRepository exerciseRepository;
     @MockBean
-    private WorkoutService workoutService;
+    private WorkoutRepository workoutRepository;
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private ExerciseCatalogService exerciseCatalogService;
+    @MockBean
+    private WorkoutSummaryService workoutSummaryService;
+    @MockBean
+    private PersonalRecordService personalRecordService;
 
     @BeforeEach
     void setup() {
@@ -86,31 +105,135 @@ class ExerciseServiceTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should create an exercise")
     void create_successful() throws Exception {
-        when(workoutService.findById(any(UUID.class))).thenReturn(WORKOUT_RECORD);
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
+        when(workoutRepository.getReferenceById(any(UUID.class))).thenReturn(WORKOUT_RECORD);
+        when(userRepository.getReferenceById(USER_RECORD.getId())).thenReturn(USER_RECORD);
         when(exerciseRepository.save(any(Exercise.class))).thenReturn(EXERCISE_RECORD);
 
         Exercise result = exerciseService.create(EXERCISE_DTO_RECORD);
 
         assertEquals(EXERCISE_RECORD, result);
 
-        verify(workoutService, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutRepository, never()).findById(any(UUID.class));
+        verify(workoutRepository, never()).findByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(userRepository, times(1)).getReferenceById(USER_RECORD.getId());
+        verify(exerciseCatalogService, times(1)).resolve(EXERCISE_DTO_RECORD.getName());
         verify(exerciseRepository, times(1)).save(any(Exercise.class));
+        verify(workoutSummaryService, times(1)).add(EXERCISE_DTO_RECORD.getWorkoutId(),
+                List.of(SummarizedSetDto.of(EXERCISE_DTO_RECORD.getWorkoutId(), EXERCISE_RECORD)));
+        verify(personalRecordService, times(1)).offer(USER_RECORD.getId(), List.of(EXERCISE_RECORD));
+    }
+
+    @Test
+    @DisplayName("should resolve the catalog id before the write transaction starts")
+    void create_resolvesOutsideTransaction() throws Exception {
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
+        when(workoutRepository.getReferenceById(any(UUID.class))).thenReturn(WORKOUT_RECORD);
+        when(userRepository.getReferenceById(USER_RECORD.getId())).thenReturn(USER_RECORD);
+        when(exerciseCatalogService.resolve(EXERCISE_DTO_RECORD.getName())).thenAnswer(invocation -> {
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            return 3;
+        });
+        when(exerciseRepository.save(any(Exercise.class))).thenAnswer(invocation -> {
+            assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.getArgument(0);
+        });
+
+        Exercise result = exerciseService.create(EXERCISE_DTO_RECORD);
+
+        assertEquals(3, result.getCatalogId());
+    }
+
+    @Test
+    @DisplayName("should run the write once more when a concurrent set inserted the records first")
+    void create_recordConflict() throws Exception {
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
+        when(workoutRepository.getReferenceById(any(UUID.class))).thenReturn(WORKOUT_RECORD);
+        when(userRepository.getReferenceById(USER_RECORD.getId())).thenReturn(USER_RECORD);
+        when(exerciseRepository.save(any(Exercise.class))).thenReturn(EXERCISE_RECORD);
+        doThrow(DataIntegrityViolationException.class).doNothing()
+                .when(personalRecordService).offer(any(), any());
+
+        Exercise result = exerciseService.create(EXERCISE_DTO_RECORD);
+
+        assertEquals(EXERCISE_RECORD, result);
+
+        verify(exerciseCatalogService, times(1)).resolve(EXERCISE_DTO_RECORD.getName());
+        verify(exerciseRepository, times(2)).save(any(Exercise.class));
+        verify(personalRecordService, times(2)).offer(USER_RECORD.getId(), List.of(EXERCISE_RECORD));
     }
 
     @Test
     @DisplayName("should throw ResourceNotFoundException if workout does not exist")
     void create_invalidWorkout() throws Exception {
-        when(workoutService.findById(any(UUID.class)))
-                .thenThrow(ResourceNotFoundException.class);
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), any(UUID.class)))
+                .thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> {
             exerciseService.create(EXERCISE_DTO_RECORD);
         });
 
-        verify(workoutService, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutRepository, never()).getReferenceById(any(UUID.class));
         verify(exerciseRepository, never()).save(any(Exercise.class));
     }
 
+    @Test
+    @DisplayName("should create every exercise of the batch checking the workout once")
+    void createBatch_successful() throws Exception {
+        UUID workoutId = UUID.randomUUID();
+        ExerciseDto second = ExerciseDto.builder()
+                .name("other")
+                .weight(BigDecimal.valueOf(20))
+                .reps(12)
+                .rir(1)
+                .build();
+        List<ExerciseDto> exerciseDtos = List.of(EXERCISE_DTO_RECORD, second);
+        when(workoutRepository.existsByIdAndUserId(workoutId, USER_RECORD.getId())).thenReturn(true);
+        when(workoutRepository.getReferenceById(workoutId)).thenReturn(WORKOUT_RECORD);
+        when(exerciseRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Exercise> result = exerciseService.createBatch(workoutId, exerciseDtos);
+
+        assertEquals(2, result.size());
+        assertEquals("other", result.get(1).getName());
+        assertEquals(WORKOUT_RECORD, result.get(1).getWorkout());
+        assertEquals(new BigDecimal("28.67"), result.get(1).getE1rm());
+        assertEquals(new BigDecimal("240.00"), result.get(1).getVolume());
+        assertEquals(workoutId, second.getWorkoutId());
+
+        verify(workoutRepository, times(1)).existsByIdAndUserId(workoutId, USER_RECORD.getId());
+        verify(exerciseRepository, times(1)).saveAll(anyList());
+        verify(exerciseRepository, never()).save(any(Exercise.class));
+        verify(workoutSummaryService, times(1)).add(eq(workoutId), argThat(sets -> sets.size() == 2));
+        verify(personalRecordService, times(1)).offer(eq(USER_RECORD.getId()),
+                argThat((List<Exercise> exercises) -> exercises.size() == 2));
+    }
+
+    @Test
+    @DisplayName("should throw ConstraintViolationException if any exercise of the batch is invalid")
+    void createBatch_invalidExercise() throws Exception {
+        ExerciseDto invalid = ExerciseDto.builder()
+                .name("ab")
+                .weight(BigDecimal.valueOf(20))
+                .reps(100)
+                .build();
+
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> exerciseService.createBatch(UUID.randomUUID(),
+                        List.of(EXERCISE_DTO_RECORD, invalid)));
+
+        assertEquals(2, exception.getConstraintViolations().size());
+        assertTrue(exception.getMessage().contains("[1].reps"));
+
+        verify(workoutRepository, never()).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(exerciseRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("should return a list of exercises")
     void findAll_successful() throws Exception {
@@ -128,14 +251,14 @@ class ExerciseServiceTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should return an exercise")
     void findById_successful() throws Exception {
-        when(exerciseRepository.findById(any(UUID.class)))
+        when(exerciseRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(EXERCISE_RECORD));
 
         Exercise result = exerciseService.findById(UUID.randomUUID());
 
         assertEquals(EXERCISE_RECORD, result);
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -145,39 +268,47 @@ class ExerciseServiceTest extends ApplicationConfigTest {
             exerciseService.findById(UUID.randomUUID());
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the exercise")
     void findById_invalidCheckOwnership() throws Exception {
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
-        when(exerciseRepository.findById(any(UUID.class)))
+        when(exerciseRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(EXERCISE_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             exerciseService.findById(UUID.randomUUID());
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
     @DisplayName("should update and return the updated exercise")
     void update_successful() throws Exception {
-        when(exerciseRepository.findById(any(UUID.class)))
+        when(exerciseRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(EXERCISE_RECORD));
         when(exerciseRepository.save(any(Exercise.class))).thenReturn(EXERCISE_RECORD);
+        when(exerciseCatalogService.resolve("new name")).thenReturn(2);
 
         EXERCISE_DTO_RECORD.setName("new name");
 
         Exercise result = exerciseService.update(UUID.randomUUID(), EXERCISE_DTO_RECORD);
 
         assertEquals(EXERCISE_DTO_RECORD.getName(), result.getName());
+        assertEquals(2, result.getCatalogId());
+        assertEquals(new BigDecimal("66.67"), result.getE1rm());
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(exerciseRepository, times(1)).save(any(Exercise.class));
+        verify(workoutSummaryService, times(1)).replace(any(SummarizedSetDto.class),
+                eq(new SummarizedSetDto(WORKOUT_RECORD.getId(), 2, EXERCISE_DTO_RECORD.getWeight(),
+                        EXERCISE_DTO_RECORD.getReps())));
+        verify(personalRecordService, times(1)).retract(eq(USER_RECORD.getId()), isNull(), any(UUID.class));
+        verify(personalRecordService, times(1)).offer(USER_RECORD.getId(), List.of(EXERCISE_RECORD));
     }
 
     @Test
@@ -187,36 +318,41 @@ class ExerciseServiceTest extends ApplicationConfigTest {
             exerciseService.update(UUID.randomUUID(), EXERCISE_DTO_RECORD);
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(exerciseRepository, never()).save(any(Exercise.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the exercise")
     void update_invalidCheckOwnership() throws Exception {
-        when(exerciseRepository.findById(any(UUID.class)))
+        when(exerciseRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(EXERCISE_RECORD));
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             exerciseService.update(UUID.randomUUID(), EXERCISE_DTO_RECORD);
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(exerciseRepository, never()).save(any(Exercise.class));
     }
 
     @Test
-    @DisplayName("should delete an exercise")
+    @DisplayName("should delete an exercise and subtract it from the workout summary")
     void delete_successful() throws Exception {
-        when(exerciseRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(EXERCISE_RECORD));
-
-        exerciseService.delete(UUID.randomUUID());
-
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
-        verify(exerciseRepository, times(1)).deleteById(any(UUID.class));
+        UUID id = UUID.randomUUID();
+        SummarizedSetDto set = new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.TEN, 10);
+        when(exerciseRepository.findSummarizedSetByIdAndUserId(id, USER_RECORD.getId()))
+                .thenReturn(Optional.of(set));
+        when(exerciseRepository.deleteByIdAndUserId(id, USER_RECORD.getId())).thenReturn(1);
+
+        exerciseService.delete(id);
+
+        verify(exerciseRepository, times(1)).deleteByIdAndUserId(id, USER_RECORD.getId());
+        verify(exerciseRepository, never()).findByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutSummaryService, times(1)).remove(set);
+        verify(personalRecordService, times(1)).retract(USER_RECORD.getId(), 1, id);
     }
 
     @Test
@@ -226,26 +362,42 @@ class ExerciseServiceTest extends ApplicationConfigTest {
             exerciseService.delete(UUID.randomUUID());
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
-        verify(exerciseRepository, never()).deleteById(any(UUID.class));
+        verify(exerciseRepository, never()).deleteByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutSummaryService, never()).remove(any(SummarizedSetDto.class));
+        verify(personalRecordService, never()).retract(any(), any(), any());
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the exercise")
     void delete_invalidCheckOwnership() throws Exception {
-        when(exerciseRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(EXERCISE_RECORD));
+        when(exerciseRepository.findSummarizedSetByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(Optional.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.TEN, 10)));
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             exerciseService.delete(UUID.randomUUID());
         });
 
-        verify(exerciseRepository, times(1)).findById(any(UUID.class));
-        verify(exerciseRepository, never()).deleteById(any(UUID.class));
-
+        verify(exerciseRepository, times(1))
+                .findSummarizedSetByIdAndUserId(any(UUID.class), eq(USER_RECORD_2.getId()));
+        verify(exerciseRepository, never()).deleteByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
-}
+    @Test
+    @DisplayName("should continue after the exercise encoded in the cursor")
+    void findPage_withCursor() throws Exception {
+        String cursor = new KeysetCursor("1000", EXERCISE_RECORD.getId()).encode();
+        when(exerciseRepository.findPageByUserIdAfter(any(UUID.class), anyLong(),
+                any(UUID.class), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(EXERCISE_RECORD));
+
+        CursorPage<Exercise> result = exerciseService.findPage(cursor, 10);
+
+        assertEquals(Collections.singletonList(EXERCISE_RECORD), result.getContent());
+        assertEquals(null, result.getNextCursor());
 
+        verify(exerciseRepository, times(1)).findPageByUserIdAfter(USER_RECORD.getId(),
+                1000L, EXERCISE_RECORD.getId(), PageRequest.of(0, 11));
+    }
+}
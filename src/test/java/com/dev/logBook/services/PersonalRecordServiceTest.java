@@ -0,0 +1,208 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.ExerciseRecordsDto;
+import com.dev.logBook.dtos.ExerciseRefDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
+import com.dev.logBook.entities.Exercise;
+import com.dev.logBook.entities.ExerciseCatalogEntry;
+import com.dev.logBook.entities.PersonalRecord;
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.enums.RecordType;
+import com.dev.logBook.repositories.ExerciseCatalogRepository;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.PersonalRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PersonalRecordServiceTest extends ApplicationConfigTest {
+
+    User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
+    UUID HOLDER_ID = UUID.randomUUID();
+    UUID OTHER_ID = UUID.randomUUID();
+    PersonalRecord HEAVIEST_RECORD;
+    PersonalRecord E1RM_RECORD;
+    PersonalRecord VOLUME_RECORD;
+    @Autowired
+    private PersonalRecordService personalRecordService;
+    @MockBean
+    private PersonalRecordRepository personalRecordRepository;
+    @MockBean
+    private ExerciseRepository exerciseRepository;
+    @MockBean
+    private ExerciseCatalogRepository exerciseCatalogRepository;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(USER_RECORD, "id", UUID.randomUUID());
+
+        // implements getCurrentUser behaviour
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(USER_RECORD);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        HEAVIEST_RECORD = record(RecordType.HEAVIEST_WEIGHT, HOLDER_ID, "100.00", 3, "100.00");
+        E1RM_RECORD = record(RecordType.BEST_E1RM, OTHER_ID, "90.00", 8, "120.00");
+        VOLUME_RECORD = record(RecordType.BEST_VOLUME_SET, OTHER_ID, "50.00", 10, "500.00");
+    }
+
+    private PersonalRecord record(RecordType kind, UUID exerciseId, String weight, int reps, String score) {
+        return PersonalRecord.builder()
+                .userId(USER_RECORD.getId())
+                .catalogId(1)
+                .kind(kind)
+                .exerciseId(exerciseId)
+                .weight(new BigDecimal(weight))
+                .reps(reps)
+                .rir(0)
+                .score(new BigDecimal(score))
+                .achievedAt(1L)
+                .build();
+    }
+
+    private Exercise exercise(String weight, int reps) {
+        return Exercise.builder()
+                .id(UUID.randomUUID())
+                .name("bench press")
+                .catalogId(1)
+                .weight(new BigDecimal(weight))
+                .reps(reps)
+                .rir(0)
+                .createdAt(2L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should create every record from the first set of an exercise")
+    void offer_firstSet() {
+        Exercise EXERCISE_RECORD = exercise("100", 5);
+
+        personalRecordService.offer(USER_RECORD.getId(), List.of(EXERCISE_RECORD));
+
+        verify(personalRecordRepository, times(1)).saveAllAndFlush(argThat((Collection<PersonalRecord> records) ->
+                records.size() == 3 && records.stream().allMatch(record ->
+                        record.getExerciseId().equals(EXERCISE_RECORD.getId()))
+                        && records.stream().anyMatch(record -> record.getKind() == RecordType.BEST_E1RM
+                        && new BigDecimal("112.50").equals(record.getScore()))));
+    }
+
+    @Test
+    @DisplayName("should only replace the records a set beats, keeping the earlier set on a tie")
+    void offer_beatsSomeRecords() {
+        when(personalRecordRepository.findForUpdate(USER_RECORD.getId(), 1))
+                .thenReturn(List.of(HEAVIEST_RECORD, E1RM_RECORD, VOLUME_RECORD));
+        Exercise EXERCISE_RECORD = exercise("100", 6);
+
+        personalRecordService.offer(USER_RECORD.getId(), List.of(EXERCISE_RECORD));
+
+        assertEquals(HOLDER_ID, HEAVIEST_RECORD.getExerciseId());
+        assertEquals(OTHER_ID, E1RM_RECORD.getExerciseId());
+        assertEquals(EXERCISE_RECORD.getId(), VOLUME_RECORD.getExerciseId());
+        assertEquals(new BigDecimal("600.00"), VOLUME_RECORD.getScore());
+        assertEquals(2L, VOLUME_RECORD.getAchievedAt());
+    }
+
+    @Test
+    @DisplayName("should look up only the records the changed set held")
+    void retract_heldRecord() {
+        when(personalRecordRepository.findForUpdate(USER_RECORD.getId(), 1))
+                .thenReturn(List.of(HEAVIEST_RECORD, E1RM_RECORD, VOLUME_RECORD));
+        UUID nextBestId = UUID.randomUUID();
+        when(exerciseRepository.findHeaviestSets(eq(USER_RECORD.getId()), eq(1), any()))
+                .thenReturn(List.of(new ExerciseSetDto(nextBestId, "bench press", 2,
+                        new BigDecimal("97.5"), 1, 3L)));
+
+        personalRecordService.retract(USER_RECORD.getId(), 1, HOLDER_ID);
+
+        assertEquals(nextBestId, HEAVIEST_RECORD.getExerciseId());
+        assertEquals(new BigDecimal("97.50"), HEAVIEST_RECORD.getScore());
+        assertEquals(2, HEAVIEST_RECORD.getReps());
+        verify(exerciseRepository, never()).findBestE1rmSets(any(), any(), any());
+        verify(exerciseRepository, never()).findBestVolumeSets(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should drop a record once no set of the exercise is left")
+    void retract_lastSet() {
+        when(personalRecordRepository.findForUpdate(USER_RECORD.getId(), 1))
+                .thenReturn(List.of(HEAVIEST_RECORD));
+        when(exerciseRepository.findHeaviestSets(eq(USER_RECORD.getId()), eq(1), any()))
+                .thenReturn(List.of());
+
+        personalRecordService.retract(USER_RECORD.getId(), 1, HOLDER_ID);
+
+        verify(personalRecordRepository, times(1)).delete(HEAVIEST_RECORD);
+    }
+
+    @Test
+    @DisplayName("should only look up the exercises whose sets were deleted in bulk")
+    void retractAll_deletedWorkout() {
+        when(personalRecordRepository.findForUpdate(USER_RECORD.getId(), 1))
+                .thenReturn(List.of(HEAVIEST_RECORD, E1RM_RECORD, VOLUME_RECORD));
+        when(exerciseRepository.findHeaviestSets(eq(USER_RECORD.getId()), eq(1), any()))
+                .thenReturn(List.of());
+
+        personalRecordService.retractAll(USER_RECORD.getId(), List.of(
+                new ExerciseRefDto(HOLDER_ID, 1), new ExerciseRefDto(UUID.randomUUID(), null)));
+
+        verify(personalRecordRepository, times(1)).findForUpdate(any(), any());
+        verify(personalRecordRepository, times(1)).delete(HEAVIEST_RECORD);
+        verify(exerciseRepository, never()).findBestE1rmSets(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should move the better records of a merged alias to its canonical entry")
+    void merge_successful() {
+        PersonalRecord TARGET_RECORD = record(RecordType.HEAVIEST_WEIGHT, OTHER_ID, "90.00", 3, "90.00");
+        TARGET_RECORD.setCatalogId(2);
+        when(personalRecordRepository.findByCatalogId(1)).thenReturn(List.of(HEAVIEST_RECORD));
+        when(personalRecordRepository.findById(
+                new PersonalRecord.Key(USER_RECORD.getId(), 2, RecordType.HEAVIEST_WEIGHT)))
+                .thenReturn(Optional.of(TARGET_RECORD));
+
+        personalRecordService.merge(1, 2);
+
+        assertEquals(HOLDER_ID, TARGET_RECORD.getExerciseId());
+        assertEquals(new BigDecimal("100.00"), TARGET_RECORD.getScore());
+        verify(personalRecordRepository, times(1)).save(TARGET_RECORD);
+        verify(personalRecordRepository, times(1)).delete(HEAVIEST_RECORD);
+    }
+
+    @Test
+    @DisplayName("should group the records of the current user by exercise")
+    void findAll_successful() {
+        when(personalRecordRepository.findByUserId(USER_RECORD.getId()))
+                .thenReturn(List.of(HEAVIEST_RECORD, E1RM_RECORD));
+        when(exerciseCatalogRepository.findAllById(any()))
+                .thenReturn(List.of(new ExerciseCatalogEntry(1, "bench press", "Bench Press")));
+
+        List<ExerciseRecordsDto> result = personalRecordService.findAll();
+
+        assertEquals(1, result.size());
+        assertEquals("Bench Press", result.get(0).name());
+        assertEquals(HOLDER_ID, result.get(0).heaviestWeight().exerciseId());
+        assertEquals(new BigDecimal("120.00"), result.get(0).bestE1rm().score());
+        assertNull(result.get(0).bestVolumeSet());
+    }
+}
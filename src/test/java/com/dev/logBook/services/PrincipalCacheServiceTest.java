@@ -0,0 +1,104 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.entities.listeners.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PrincipalCacheServiceTest {
+
+    User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
+    SimpleMeterRegistry meterRegistry;
+    PrincipalCacheService principalCacheService;
+    AtomicInteger loads;
+    Function<String, User> loader;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(USER_RECORD, "id", UUID.randomUUID());
+        meterRegistry = new SimpleMeterRegistry();
+        principalCacheService = new PrincipalCacheService(100, 300, meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return USER_RECORD;
+        };
+    }
+
+    @Test
+    @DisplayName("should load the user once and serve later requests from the cache")
+    void get_cachesPrincipal() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+
+        User first = principalCacheService.get("username", issuedAt, loader);
+        User second = principalCacheService.get("username", issuedAt, loader);
+
+        assertEquals(USER_RECORD, first);
+        assertEquals(USER_RECORD, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "principals").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("should reload the user if the token was issued after the entry was cached")
+    void get_reloadsForNewerToken() {
+        principalCacheService.get("username", Instant.now().minusSeconds(60), loader);
+        principalCacheService.get("username", Instant.now().plusSeconds(60), loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.principals.stale").counter().count());
+    }
+
+    @Test
+    @DisplayName("should reload the user after it has been evicted")
+    void evict_forcesReload() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+        principalCacheService.get("username", issuedAt, loader);
+
+        principalCacheService.evict(USER_RECORD.getId());
+        principalCacheService.get("username", issuedAt, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("should evict the user once a change to it is committed")
+    void onUserChanged_evicts() {
+        Instant issuedAt = Instant.now().minusSeconds(60);
+        principalCacheService.get("username", issuedAt, loader);
+
+        principalCacheService.onUserChanged(new UserChangedEvent(USER_RECORD.getId()));
+        principalCacheService.get("username", issuedAt, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("should not cache unknown users")
+    void get_unknownUser() {
+        User result = principalCacheService.get("unknown", Instant.now(), username -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        principalCacheService.get("unknown", Instant.now(), username -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertNull(result);
+        assertEquals(2, loads.get());
+    }
+}
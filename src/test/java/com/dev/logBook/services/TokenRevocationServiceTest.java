@@ -0,0 +1,58 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.entities.RevokedToken;
+import com.dev.logBook.repositories.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationServiceTest extends ApplicationConfigTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    @DisplayName("should report a revoked token and persist it")
+    void revoke_successful() {
+        String jti = UUID.randomUUID().toString();
+
+        tokenRevocationService.revoke(jti, Instant.now().plusSeconds(60));
+
+        assertTrue(tokenRevocationService.isRevoked(jti));
+        assertTrue(revokedTokenRepository.existsById(jti));
+        assertFalse(tokenRevocationService.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @DisplayName("should ignore tokens that already expired")
+    void revoke_expiredToken() {
+        String jti = UUID.randomUUID().toString();
+
+        tokenRevocationService.revoke(jti, Instant.now().minusSeconds(1));
+
+        assertFalse(tokenRevocationService.isRevoked(jti));
+        assertFalse(revokedTokenRepository.existsById(jti));
+    }
+
+    @Test
+    @DisplayName("should drop expired entries on purge")
+    void purgeExpired_successful() {
+        String expired = UUID.randomUUID().toString();
+        revokedTokenRepository.save(new RevokedToken(expired, Instant.now().minusSeconds(1)));
+        String active = UUID.randomUUID().toString();
+        tokenRevocationService.revoke(active, Instant.now().plusSeconds(60));
+
+        tokenRevocationService.purgeExpired();
+
+        assertFalse(revokedTokenRepository.existsById(expired));
+        assertTrue(tokenRevocationService.isRevoked(active));
+    }
+}
@@ -4,10 +4,14 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.config.TokenPrincipal;
+import com.dev.logBook.entities.StoredSigningKey;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.repositories.SigningKeyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,9 +19,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +36,8 @@ class TokenServiceTest extends ApplicationConfigTest {
 
     @Autowired
     TokenService tokenService;
+    @Autowired
+    SigningKeyRepository signingKeyRepository;
     User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -49,6 +59,26 @@ class TokenServiceTest extends ApplicationConfigTest {
         assertNotNull(token);
     }
 
+    @Test
+    @DisplayName("should give every token a unique id")
+    void generateToken_uniqueId() {
+        String firstId = JWT.decode(tokenService.generateToken(USER_RECORD)).getId();
+        String secondId = JWT.decode(tokenService.generateToken(USER_RECORD)).getId();
+
+        assertNotNull(firstId);
+        assertNotEquals(firstId, secondId);
+    }
+
+    @Test
+    @DisplayName("should generate unique refresh tokens")
+    void generateRefreshToken_unique() {
+        String first = tokenService.generateRefreshToken();
+        String second = tokenService.generateRefreshToken();
+
+        assertEquals(43, first.length());
+        assertNotEquals(first, second);
+    }
+
     @Test
     @DisplayName("should generate a token with correct issuer")
     void generateToken_correctIssuer() {
@@ -184,4 +214,159 @@ class TokenServiceTest extends ApplicationConfigTest {
             tokenService.getSubject(token);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should add the role claim and build the principal from it in claims-only mode")
+    void getPrincipal_claimsOnly() {
+        ReflectionTestUtils.setField(tokenService, "claimsOnly", true);
+        try {
+            String token = tokenService.generateToken(USER_RECORD);
+
+            TokenPrincipal principal = tokenService.getPrincipal(tokenService.verify(token));
+
+            assertEquals(new TokenPrincipal(USER_RECORD.getId(), USER_RECORD.getUsername(),
+                    USER_RECORD.getRole()), principal);
+        } finally {
+            ReflectionTestUtils.setField(tokenService, "claimsOnly", false);
+        }
+    }
+
+    @Test
+    @DisplayName("should not build a principal from a token without the role claim")
+    void getPrincipal_missingRoleClaim() {
+        String token = tokenService.generateToken(USER_RECORD);
+
+        assertNull(tokenService.getPrincipal(tokenService.verify(token)));
+    }
+
+    @Test
+    @DisplayName("should keep verifying tokens signed with a previous key after a rotation")
+    void rotateKey_previousKeyStillVerifies() {
+        List<StoredSigningKey> keys = signingKeyRepository.findAll();
+        try {
+            String oldToken = tokenService.generateToken(USER_RECORD);
+
+            String kid = tokenService.rotateKey();
+            String newToken = tokenService.generateToken(USER_RECORD);
+
+            assertEquals(kid, JWT.decode(newToken).getKeyId());
+            assertEquals(USER_RECORD.getUsername(), tokenService.getSubject(oldToken));
+            assertEquals(USER_RECORD.getUsername(), tokenService.getSubject(newToken));
+        } finally {
+            restoreKeys(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject tokens signed with a retired key")
+    void retireKey_rejectsTokens() {
+        List<StoredSigningKey> keys = signingKeyRepository.findAll();
+        try {
+            String oldToken = tokenService.generateToken(USER_RECORD);
+            String oldKeyId = JWT.decode(oldToken).getKeyId();
+
+            tokenService.rotateKey();
+            tokenService.retireKey(oldKeyId);
+
+            assertThrows(SignatureVerificationException.class, () ->
+                    tokenService.getSubject(oldToken));
+        } finally {
+            restoreKeys(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep a rotation and a retirement across a restart with the configured keys")
+    void initKeyRing_keepsStoredKeys() {
+        List<StoredSigningKey> keys = signingKeyRepository.findAll();
+        try {
+            String oldToken = tokenService.generateToken(USER_RECORD);
+            String oldKeyId = JWT.decode(oldToken).getKeyId();
+            String kid = tokenService.rotateKey();
+            tokenService.retireKey(oldKeyId);
+
+            ReflectionTestUtils.invokeMethod(tokenService, "initKeyRing");
+
+            assertEquals(kid, JWT.decode(tokenService.generateToken(USER_RECORD)).getKeyId());
+            assertThrows(SignatureVerificationException.class, () ->
+                    tokenService.getSubject(oldToken));
+        } finally {
+            restoreKeys(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("should load a key rotated on another node when a token carries its id")
+    void verify_loadsKeyFromAnotherNode() {
+        List<StoredSigningKey> keys = signingKeyRepository.findAll();
+        try {
+            ReflectionTestUtils.setField(tokenService, "keysLoadedAt", 0L);
+            signingKeyRepository.save(new StoredSigningKey("other-node", "other-node-secret",
+                    System.currentTimeMillis(), null));
+            String token = JWT.create()
+                    .withIssuer("JWT")
+                    .withKeyId("other-node")
+                    .withSubject(USER_RECORD.getUsername())
+                    .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                    .sign(Algorithm.HMAC256("other-node-secret"));
+
+            assertEquals(USER_RECORD.getUsername(), tokenService.getSubject(token));
+        } finally {
+            restoreKeys(keys);
+        }
+    }
+
+    private void restoreKeys(List<StoredSigningKey> keys) {
+        signingKeyRepository.deleteAll();
+        signingKeyRepository.saveAll(keys);
+        tokenService.reloadKeys();
+    }
+
+    @Test
+    @DisplayName("should not retire the active key")
+    void retireKey_activeKey() {
+        String activeKeyId = JWT.decode(tokenService.generateToken(USER_RECORD)).getKeyId();
+
+        assertThrows(IllegalArgumentException.class, () -> tokenService.retireKey(activeKeyId));
+    }
+
+    @Test
+    @DisplayName("should serve repeated verifications of the same token from the cache")
+    void verify_cachesDecodedToken() {
+        String token = tokenService.generateToken(USER_RECORD);
+
+        DecodedJWT first = tokenService.verify(token);
+        DecodedJWT second = tokenService.verify(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("should verify the token again once it has been evicted")
+    void evictVerifiedToken_forcesVerification() {
+        String token = tokenService.generateToken(USER_RECORD);
+        DecodedJWT first = tokenService.verify(token);
+
+        tokenService.evictVerifiedToken(token);
+
+        assertNotSame(first, tokenService.verify(token));
+    }
+
+    @Test
+    @DisplayName("should reject an expired token even if it was verified before")
+    void verify_expiredToken() throws InterruptedException {
+        // exp has whole seconds and is compared with the current whole second, so the token
+        // is valid for at least one more second and expired once the second after exp began
+        Instant expiresAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(2);
+        String token = JWT.create()
+                .withIssuer("JWT")
+                .withSubject(USER_RECORD.getUsername())
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(jwtSecret));
+        tokenService.verify(token);
+
+        Thread.sleep(Duration.between(Instant.now(), expiresAt.plusSeconds(1)).toMillis() + 100);
+
+        assertThrows(TokenExpiredException.class, () -> tokenService.verify(token));
+    }
+}
@@ -2,24 +2,35 @@ package com.dev.logBook.services;
 
 
 import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.config.TokenPrincipal;
+import com.dev.logBook.dtos.CursorPage;
 import com.dev.logBook.dtos.ExerciseDto;
+import com.dev.logBook.dtos.ExerciseRefDto;
+import com.dev.logBook.dtos.ExerciseSetDto;
 import com.dev.logBook.dtos.WorkoutDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.dtos.WorkoutSummaryDto;
 import com.dev.logBook.entities.Exercise;
 import com.dev.logBook.entities.User;
 import com.dev.logBook.entities.Workout;
 import com.dev.logBook.entities.enums.Role;
 import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.repositories.ExerciseRepository;
 import com.dev.logBook.repositories.WorkoutRepository;
+import com.dev.logBook.services.exceptions.InvalidCursorException;
 import com.dev.logBook.services.exceptions.ResourceNotFoundException;
-import com.dev.logBook.services.exceptions.UnauthorizedAccessException;
 import com.dev.logBook.services.exceptions.UniqueConstraintViolationError;
 import com.dev.logBook.services.utils.ExerciseComparator;
+import com.dev.logBook.services.utils.KeysetCursor;
+import com.dev.logBook.services.utils.WorkoutComparison;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -60,6 +71,7 @@ class WorkoutServiceTest extends ApplicationConfigTest {
             .build();
     Exercise EXERCISE_RECORD = Exercise.builder()
             .name(EXERCISE_DTO_RECORD.getName())
+            .catalogId(1)
             .weight(EXERCISE_DTO_RECORD.getWeight())
             .reps(EXERCISE_DTO_RECORD.getReps())
             .rir(EXERCISE_DTO_RECORD.getRir())
@@ -72,6 +84,14 @@ class WorkoutServiceTest extends ApplicationConfigTest {
     private WorkoutService workoutService;
     @MockBean
     private WorkoutRepository workoutRepository;
+    @MockBean
+    private ExerciseRepository exerciseRepository;
+    @MockBean
+    private ExerciseCatalogService exerciseCatalogService;
+    @MockBean
+    private WorkoutSummaryService workoutSummaryService;
+    @MockBean
+    private PersonalRecordService personalRecordService;
 
     @BeforeEach
     void setup() {
@@ -92,20 +112,21 @@ class WorkoutServiceTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should create a workout")
     void create_successful() throws Exception {
-        when(workoutRepository.save(any(Workout.class))).thenReturn(WORKOUT_RECORD);
+        when(workoutRepository.saveAndFlush(any(Workout.class))).thenReturn(WORKOUT_RECORD);
 
         Workout result = workoutService.create(WORKOUT_DTO_RECORD);
 
         assertEquals(WORKOUT_RECORD, result);
 
-        verify(workoutRepository, times(1)).save(any(Workout.class));
+        verify(workoutRepository, times(1)).saveAndFlush(any(Workout.class));
+        verify(workoutSummaryService, times(1)).initialize(WORKOUT_RECORD);
     }
 
     @Test
     @DisplayName("should throw UniqueConstraintViolationError " +
             "if workout with the same date already exists")
     void create_workoutAlreadyExists() {
-        when(workoutRepository.save(any(Workout.class)))
+        when(workoutRepository.saveAndFlush(any(Workout.class)))
                 .thenThrow(DataIntegrityViolationException.class);
 
         UniqueConstraintViolationError exception =
@@ -113,7 +134,24 @@ class WorkoutServiceTest extends ApplicationConfigTest {
                     workoutService.create(WORKOUT_DTO_RECORD);
                 });
 
-        verify(workoutRepository, times(1)).save(any(Workout.class));
+        verify(workoutRepository, times(1)).saveAndFlush(any(Workout.class));
+        verify(workoutSummaryService, never()).initialize(any(Workout.class));
+    }
+
+    @Test
+    @DisplayName("should look up workouts by the id carried in a claims-only principal")
+    void findAll_claimsOnlyPrincipal() throws Exception {
+        TokenPrincipal principal = new TokenPrincipal(USER_RECORD.getId(),
+                USER_RECORD.getUsername(), USER_RECORD.getRole());
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(workoutRepository.findByUserId(USER_RECORD.getId()))
+                .thenReturn(Collections.singletonList(WORKOUT_RECORD));
+
+        List<Workout> result = workoutService.findAll();
+
+        assertEquals(Collections.singletonList(WORKOUT_RECORD), result);
+
+        verify(workoutRepository, times(1)).findByUserId(USER_RECORD.getId());
     }
 
     @Test
@@ -133,14 +171,14 @@ class WorkoutServiceTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should return a workout")
     void findById_successful() throws Exception {
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
         Workout result = workoutService.findById(UUID.randomUUID());
 
         assertEquals(WORKOUT_RECORD, result);
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -150,22 +188,22 @@ class WorkoutServiceTest extends ApplicationConfigTest {
             workoutService.findById(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the workout")
     void findById_invalidCheckOwnership() throws Exception {
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.findById(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -196,15 +234,15 @@ class WorkoutServiceTest extends ApplicationConfigTest {
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the workout")
     void findByDateAndUserId_invalidCheckOwnership() throws Exception {
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
         when(workoutRepository.findByDateAndMuscleAndUserId
-                (any(LocalDate.class), any(Muscles.class), any(UUID.class)))
+                (any(LocalDate.class), any(Muscles.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.findByDateAndMuscle(WORKOUT_RECORD.getDate(), WORKOUT_RECORD.getMuscle());
         });
 
@@ -215,18 +253,20 @@ class WorkoutServiceTest extends ApplicationConfigTest {
     @Test
     @DisplayName("should update and return the updated workout")
     void update_successful() throws Exception {
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
         when(workoutRepository.save(any(Workout.class))).thenReturn(WORKOUT_RECORD);
 
         WORKOUT_DTO_RECORD.setMuscle(Muscles.BACK);
 
-        Workout result = workoutService.update(UUID.randomUUID(), WORKOUT_DTO_RECORD);
+        UUID id = UUID.randomUUID();
+        Workout result = workoutService.update(id, WORKOUT_DTO_RECORD);
 
         assertEquals(WORKOUT_DTO_RECORD.getMuscle(), result.getMuscle());
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(workoutRepository, times(1)).save(any(Workout.class));
+        verify(workoutSummaryService, times(1)).move(id, Muscles.BACK, WORKOUT_DTO_RECORD.getDate());
     }
 
     @Test
@@ -236,36 +276,42 @@ class WorkoutServiceTest extends ApplicationConfigTest {
             workoutService.update(UUID.randomUUID(), WORKOUT_DTO_RECORD);
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(workoutRepository, never()).save(any(Workout.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the workout")
     void update_invalidCheckOwnership() throws Exception {
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.update(UUID.randomUUID(), WORKOUT_DTO_RECORD);
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
         verify(workoutRepository, never()).save(any(Workout.class));
     }
 
     @Test
-    @DisplayName("should delete a workout")
+    @DisplayName("should delete a workout and its exercises with bulk statements")
     void delete_successful() throws Exception {
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+        UUID id = UUID.randomUUID();
+        when(workoutRepository.existsByIdAndUserId(id, USER_RECORD.getId())).thenReturn(true);
+        when(workoutRepository.deleteByIdAndUserId(id, USER_RECORD.getId())).thenReturn(1);
+        List<ExerciseRefDto> deleted = List.of(new ExerciseRefDto(UUID.randomUUID(), 1));
+        when(exerciseRepository.findRefsByWorkoutIdAndUserId(id, USER_RECORD.getId())).thenReturn(deleted);
 
-        workoutService.delete(UUID.randomUUID());
+        workoutService.delete(id);
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
-        verify(workoutRepository, times(1)).deleteById(any(UUID.class));
+        verify(exerciseRepository, times(1)).deleteByWorkoutIdAndUserId(id, USER_RECORD.getId());
+        verify(workoutSummaryService, times(1)).delete(id);
+        verify(workoutRepository, times(1)).deleteByIdAndUserId(id, USER_RECORD.getId());
+        verify(personalRecordService, times(1)).retractAll(USER_RECORD.getId(), deleted);
+        verify(workoutRepository, never()).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -275,50 +321,57 @@ class WorkoutServiceTest extends ApplicationConfigTest {
             workoutService.delete(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
-        verify(workoutRepository, never()).deleteById(any(UUID.class));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutRepository, never()).deleteByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the workout")
     void delete_invalidCheckOwnership() throws Exception {
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.delete(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
-        verify(workoutRepository, never()).deleteById(any(UUID.class));
+        verify(exerciseRepository, never()).deleteByWorkoutIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutSummaryService, never()).delete(any(UUID.class));
+        verify(workoutRepository, never()).deleteByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
     @DisplayName("should return a list of exercises")
     void getExercisesOutsideRepsRange_successful() throws Exception {
-        Exercise EXERCISE_RECORD_OUTSIDE_REP_RANGE = Exercise.builder()
-                .name(EXERCISE_DTO_RECORD.getName())
-                .weight(EXERCISE_DTO_RECORD.getWeight())
-                .reps(EXERCISE_DTO_RECORD.getReps() + 10)
-                .rir(EXERCISE_DTO_RECORD.getRir())
-                .workout(WORKOUT_RECORD)
-                .user(USER_RECORD)
-                .build();
+        ExerciseSetDto EXERCISE_SET_OUTSIDE_REP_RANGE = new ExerciseSetDto(UUID.randomUUID(),
+                EXERCISE_DTO_RECORD.getName(), EXERCISE_DTO_RECORD.getReps() + 10,
+                EXERCISE_DTO_RECORD.getWeight(), EXERCISE_DTO_RECORD.getRir(), 0L);
+        UUID workoutId = UUID.randomUUID();
 
-        List<Exercise> exercises = Arrays.asList(EXERCISE_RECORD, EXERCISE_RECORD_OUTSIDE_REP_RANGE);
+        when(exerciseRepository.findOutsideRepsRangeByWorkoutId(workoutId, USER_RECORD.getId()))
+                .thenReturn(Collections.singletonList(EXERCISE_SET_OUTSIDE_REP_RANGE));
 
-        WORKOUT_RECORD.setExercises(exercises);
+        List<ExerciseSetDto> result = workoutService.getExercisesOutsideRepsRange(workoutId);
 
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+        assertEquals(Collections.singletonList(EXERCISE_SET_OUTSIDE_REP_RANGE), result);
+
+        verify(workoutRepository, never()).findByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutRepository, never()).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("should return an empty list if every exercise is inside the reps range")
+    void getExercisesOutsideRepsRange_noExercises() throws Exception {
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
 
-        List<Exercise> result = workoutService.getExercisesOutsideRepsRange(UUID.randomUUID());
+        List<ExerciseSetDto> result = workoutService.getExercisesOutsideRepsRange(UUID.randomUUID());
 
-        assertEquals(Collections.singletonList(EXERCISE_RECORD_OUTSIDE_REP_RANGE), result);
+        assertEquals(Collections.emptyList(), result);
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -328,93 +381,71 @@ class WorkoutServiceTest extends ApplicationConfigTest {
             workoutService.getExercisesOutsideRepsRange(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the workout")
     void getExercisesOutsideRepsRange_invalidCheckOwnership() throws Exception {
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository.existsByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
+                .thenReturn(true);
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.getExercisesOutsideRepsRange(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, times(1))
+                .findOutsideRepsRangeByWorkoutId(any(UUID.class), eq(USER_RECORD_2.getId()));
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should return a hashmap containing the volume load")
+    @DisplayName("should read the volume load from the workout summary")
     void calculateVolumeLoad_successful() throws Exception {
-        Exercise EXERCISE_RECORD_2 = Exercise.builder()
-                .name(EXERCISE_DTO_RECORD.getName())
-                .weight(EXERCISE_DTO_RECORD.getWeight().add(BigDecimal.valueOf(5)))
-                .reps(EXERCISE_DTO_RECORD.getReps() + 5)
-                .rir(EXERCISE_DTO_RECORD.getRir())
-                .workout(WORKOUT_RECORD)
-                .user(USER_RECORD)
-                .build();
-
-        Exercise EXERCISE_RECORD_3 = Exercise.builder()
-                .name("random name")
-                .weight(EXERCISE_DTO_RECORD.getWeight().add(BigDecimal.valueOf(5)))
-                .reps(EXERCISE_DTO_RECORD.getReps() + 5)
-                .rir(EXERCISE_DTO_RECORD.getRir())
-                .workout(WORKOUT_RECORD)
-                .user(USER_RECORD)
-                .build();
-
-        List<Exercise> exercises = Arrays.asList
-                (EXERCISE_RECORD, EXERCISE_RECORD_2, EXERCISE_RECORD_3);
-
-        WORKOUT_RECORD.setExercises(exercises);
-
+        UUID workoutId = UUID.randomUUID();
         HashMap<String, BigDecimal> expectedHashMap = new HashMap<>();
-        expectedHashMap.put(EXERCISE_RECORD.getName(),
-                BigDecimal.valueOf(EXERCISE_RECORD.getReps())
-                        .multiply(EXERCISE_RECORD.getWeight())
-                        .add(BigDecimal.valueOf(EXERCISE_RECORD_2.getReps())
-                                .multiply(EXERCISE_RECORD_2.getWeight())));
-        expectedHashMap.put(EXERCISE_RECORD_3.getName(),
-                BigDecimal.valueOf(EXERCISE_RECORD_3.getReps())
-                        .multiply(EXERCISE_RECORD_3.getWeight()));
-
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+        expectedHashMap.put(EXERCISE_RECORD.getName(), BigDecimal.valueOf(1275));
+        expectedHashMap.put("random name", BigDecimal.valueOf(825));
+
+        when(workoutSummaryService.getVolumeLoad(workoutId, USER_RECORD.getId()))
+                .thenReturn(expectedHashMap);
 
-        HashMap<String, BigDecimal> result = workoutService.calculateVolumeLoad(UUID.randomUUID());
+        HashMap<String, BigDecimal> result = workoutService.calculateVolumeLoad(workoutId);
 
         assertEquals(expectedHashMap, result);
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(exerciseRepository, never()).findOutsideRepsRangeByWorkoutId(any(UUID.class), any(UUID.class));
+        verify(workoutRepository, never()).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw ResourceNotFoundException if no workout is found")
-    void calculateVolumeLoad_noWorkoutFound() throws Exception {
+    @DisplayName("should throw ResourceNotFoundException " +
+            "if user is not the owner of the workout")
+    void calculateVolumeLoad_invalidCheckOwnership() throws Exception {
+        when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
+        when(workoutSummaryService.getVolumeLoad(any(UUID.class), eq(USER_RECORD_2.getId())))
+                .thenThrow(ResourceNotFoundException.class);
+
         assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.calculateVolumeLoad(UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutSummaryService, times(1)).getVolumeLoad(any(UUID.class), eq(USER_RECORD_2.getId()));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
-            "if user is not the owner of the workout")
-    void calculateVolumeLoad_invalidCheckOwnership() throws Exception {
-        when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
-        when(workoutRepository.findById(any(UUID.class)))
-                .thenReturn(Optional.of(WORKOUT_RECORD));
+    @DisplayName("should read the stats of a workout from its summary")
+    void getStats_successful() throws Exception {
+        UUID workoutId = UUID.randomUUID();
+        WorkoutStatsDto stats = new WorkoutStatsDto(2, 1, BigDecimal.valueOf(900),
+                Collections.singletonList(new WorkoutStatsDto.ExerciseStatsDto(EXERCISE_RECORD.getName(),
+                        2, BigDecimal.valueOf(900), BigDecimal.valueOf(50), 10)));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
-            workoutService.calculateVolumeLoad(UUID.randomUUID());
-        });
+        when(workoutSummaryService.getStats(workoutId, USER_RECORD.getId())).thenReturn(stats);
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        assertEquals(stats, workoutService.getStats(workoutId));
     }
 
     @Test
@@ -425,6 +456,7 @@ class WorkoutServiceTest extends ApplicationConfigTest {
 
         Exercise EXERCISE_RECORD_2 = Exercise.builder()
                 .name("random name")
+                .catalogId(2)
                 .weight(EXERCISE_DTO_RECORD.getWeight())
                 .reps(EXERCISE_DTO_RECORD.getReps())
                 .rir(EXERCISE_DTO_RECORD.getRir())
@@ -432,7 +464,8 @@ class WorkoutServiceTest extends ApplicationConfigTest {
                 .user(USER_RECORD)
                 .build();
         Exercise EXERCISE_RECORD_3 = Exercise.builder()
-                .name(EXERCISE_DTO_RECORD.getName())
+                .name(EXERCISE_DTO_RECORD.getName().toUpperCase())
+                .catalogId(1)
                 .weight(EXERCISE_DTO_RECORD.getWeight().add(BigDecimal.ONE))
                 .reps(EXERCISE_DTO_RECORD.getReps() + 2)
                 .rir(EXERCISE_DTO_RECORD.getRir() + 3)
@@ -447,7 +480,7 @@ class WorkoutServiceTest extends ApplicationConfigTest {
         List<Exercise> currentWorkoutExercises = Collections.singletonList(EXERCISE_RECORD_3);
 
         ExerciseComparator exerciseComparator = ExerciseComparator.builder()
-                .name(EXERCISE_RECORD_3.getName())
+                .name(EXERCISE_RECORD.getName())
                 .repsDifference(EXERCISE_RECORD_3.getReps() - EXERCISE_RECORD.getReps())
                 .weightDifference(EXERCISE_RECORD_3.getWeight()
                         .subtract(EXERCISE_RECORD.getWeight()))
@@ -461,32 +494,33 @@ class WorkoutServiceTest extends ApplicationConfigTest {
         WORKOUT_RECORD_2.setUser(USER_RECORD);
         WORKOUT_RECORD_2.setExercises(currentWorkoutExercises);
 
-        when(workoutRepository.findById(oldWorkoutId))
+        when(workoutRepository.findByIdAndUserId(oldWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        when(workoutRepository.findById(currentWorkoutId))
+        when(workoutRepository.findByIdAndUserId(currentWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.of(WORKOUT_RECORD_2));
+        when(exerciseCatalogService.getDisplayName(1)).thenReturn(EXERCISE_RECORD.getName());
 
         List<ExerciseComparator> result = workoutService.compareWorkouts(oldWorkoutId, currentWorkoutId);
 
         assertEquals(expectedResult, result);
 
         verify(workoutRepository, times(2))
-                .findById(any(UUID.class));
+                .findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
     @DisplayName("should throw ResourceNotFoundException if no workout is found" +
             "for oldWorkoutExercises")
     void compareWorkouts_noWorkoutFoundOldWorkoutExercises() throws Exception {
-        when(workoutRepository.findById(UUID.randomUUID()))
+        when(workoutRepository.findByIdAndUserId(UUID.randomUUID(), USER_RECORD.getId()))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.compareWorkouts(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -496,50 +530,96 @@ class WorkoutServiceTest extends ApplicationConfigTest {
         UUID oldWorkoutId = UUID.randomUUID();
         UUID currentWorkoutId = UUID.randomUUID();
 
-        when(workoutRepository.findById(oldWorkoutId))
+        when(workoutRepository.findByIdAndUserId(oldWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        when(workoutRepository.findById(currentWorkoutId))
+        when(workoutRepository.findByIdAndUserId(currentWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.compareWorkouts(oldWorkoutId, currentWorkoutId);
         });
 
-        verify(workoutRepository, times(2)).findById(any(UUID.class));
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the current workout")
     void compareWorkouts_invalidCurrentWorkoutExercisesCheckOwnership() throws Exception {
         when(authentication.getPrincipal()).thenReturn(USER_RECORD_2);
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.compareWorkouts(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the old workout")
     void compareWorkouts_invalidOldWorkoutExercisesCheckOwnership() throws Exception {
         when(authentication.getPrincipal())
                 .thenReturn(USER_RECORD)
                 .thenReturn(USER_RECORD_2);
 
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.compareWorkouts(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(2)).findById(any(UUID.class));
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("should return the differences and the exercises found in only one workout")
+    void diffWorkouts_successful() throws Exception {
+        UUID oldWorkoutId = UUID.randomUUID();
+        UUID currentWorkoutId = UUID.randomUUID();
+
+        Exercise EXERCISE_RECORD_2 = Exercise.builder()
+                .name("old only")
+                .catalogId(2)
+                .build();
+        Exercise EXERCISE_RECORD_3 = Exercise.builder()
+                .name(EXERCISE_DTO_RECORD.getName())
+                .catalogId(1)
+                .weight(EXERCISE_DTO_RECORD.getWeight())
+                .reps(EXERCISE_DTO_RECORD.getReps() + 1)
+                .rir(EXERCISE_DTO_RECORD.getRir())
+                .build();
+        Exercise EXERCISE_RECORD_4 = Exercise.builder()
+                .name("new only")
+                .catalogId(3)
+                .build();
+
+        WORKOUT_RECORD.setExercises(Arrays.asList(EXERCISE_RECORD, EXERCISE_RECORD_2));
+        Workout WORKOUT_RECORD_2 = Workout.builder()
+                .user(USER_RECORD)
+                .exercises(Arrays.asList(EXERCISE_RECORD_4, EXERCISE_RECORD_3))
+                .build();
+
+        when(workoutRepository.findByIdAndUserId(oldWorkoutId, USER_RECORD.getId()))
+                .thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository.findByIdAndUserId(currentWorkoutId, USER_RECORD.getId()))
+                .thenReturn(Optional.of(WORKOUT_RECORD_2));
+        when(exerciseCatalogService.getDisplayName(1)).thenReturn(EXERCISE_RECORD.getName());
+
+        WorkoutComparison result = workoutService.diffWorkouts(oldWorkoutId, currentWorkoutId);
+
+        assertEquals(Collections.singletonList(ExerciseComparator.builder()
+                .name(EXERCISE_RECORD.getName())
+                .repsDifference(1)
+                .build()), result.differences());
+        assertEquals(Collections.singletonList(EXERCISE_RECORD_2), result.oldOnly());
+        assertEquals(Collections.singletonList(EXERCISE_RECORD_4), result.newOnly());
+
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -551,6 +631,7 @@ class WorkoutServiceTest extends ApplicationConfigTest {
 
         Exercise EXERCISE_RECORD_2 = Exercise.builder()
                 .name("random")
+                .catalogId(2)
                 .build();
         List<Exercise> exercises = Arrays.asList(EXERCISE_RECORD, EXERCISE_RECORD_2);
         Workout WORKOUT_RECORD_2 = Workout.builder()
@@ -558,8 +639,8 @@ class WorkoutServiceTest extends ApplicationConfigTest {
                 .exercises(exercises)
                 .build();
 
-        when(workoutRepository.findById(currentWorkoutId)).thenReturn(Optional.of(WORKOUT_RECORD_2));
-        when(workoutRepository.findById(oldWorkoutId)).thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository.findByIdAndUserId(currentWorkoutId, USER_RECORD.getId())).thenReturn(Optional.of(WORKOUT_RECORD_2));
+        when(workoutRepository.findByIdAndUserId(oldWorkoutId, USER_RECORD.getId())).thenReturn(Optional.of(WORKOUT_RECORD));
 
         List<Exercise> expectedResult = Collections.singletonList(EXERCISE_RECORD_2);
 
@@ -568,21 +649,21 @@ class WorkoutServiceTest extends ApplicationConfigTest {
 
         assertEquals(expectedResult, result);
 
-        verify(workoutRepository, times(2)).findById(any(UUID.class));
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
     @DisplayName("should throw ResourceNotFoundException if no workout is found" +
             "for oldWorkoutExercises")
     void getUniqueWorkoutExercises_noWorkoutFoundPreservedExercises() throws Exception {
-        when(workoutRepository.findById(UUID.randomUUID()))
+        when(workoutRepository.findByIdAndUserId(UUID.randomUUID(), USER_RECORD.getId()))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.getUniqueWorkoutExercises(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -592,50 +673,50 @@ class WorkoutServiceTest extends ApplicationConfigTest {
         UUID oldWorkoutId = UUID.randomUUID();
         UUID currentWorkoutId = UUID.randomUUID();
 
-        when(workoutRepository.findById(oldWorkoutId))
+        when(workoutRepository.findByIdAndUserId(oldWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
-        when(workoutRepository.findById(currentWorkoutId))
+        when(workoutRepository.findByIdAndUserId(currentWorkoutId, USER_RECORD.getId()))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.getUniqueWorkoutExercises(oldWorkoutId, currentWorkoutId);
         });
 
-        verify(workoutRepository, times(2)).findById(any(UUID.class));
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the old workout")
     void getUniqueWorkoutExercises_invalidPreservedExercisesCheckOwnership() throws Exception {
         when(authentication.getPrincipal())
                 .thenReturn(USER_RECORD_2);
 
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.getUniqueWorkoutExercises(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(1)).findById(any(UUID.class));
+        verify(workoutRepository, times(1)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
-    @DisplayName("should throw UnauthorizedAccessException " +
+    @DisplayName("should throw ResourceNotFoundException " +
             "if user is not the owner of the current workout")
     void getUniqueWorkoutExercises_invalidComparisonExercisesCheckOwnership() throws Exception {
         when(authentication.getPrincipal())
                 .thenReturn(USER_RECORD)
                 .thenReturn(USER_RECORD_2);
-        when(workoutRepository.findById(any(UUID.class)))
+        when(workoutRepository.findByIdAndUserId(any(UUID.class), eq(USER_RECORD.getId())))
                 .thenReturn(Optional.of(WORKOUT_RECORD));
 
-        assertThrows(UnauthorizedAccessException.class, () -> {
+        assertThrows(ResourceNotFoundException.class, () -> {
             workoutService.getUniqueWorkoutExercises(UUID.randomUUID(), UUID.randomUUID());
         });
 
-        verify(workoutRepository, times(2)).findById(any(UUID.class));
+        verify(workoutRepository, times(2)).findByIdAndUserId(any(UUID.class), any(UUID.class));
     }
 
     @Test
@@ -652,5 +733,100 @@ class WorkoutServiceTest extends ApplicationConfigTest {
         verify(workoutRepository, times(1))
                 .findByMuscleAndUserId(any(Muscles.class), any(UUID.class));
     }
-}
 
+    @Test
+    @DisplayName("should return the previous comparable workout")
+    void findPreviousComparable_successful() throws Exception {
+        Workout previous = Workout.builder()
+                .date(WORKOUT_RECORD.getDate().minusDays(7))
+                .muscle(WORKOUT_RECORD.getMuscle())
+                .user(USER_RECORD)
+                .lowerRepsRange(WORKOUT_RECORD.getLowerRepsRange())
+                .upperRepsRange(WORKOUT_RECORD.getUpperRepsRange())
+                .build();
+        when(workoutRepository.findByIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()))
+                .thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository
+                .findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+                        (USER_RECORD.getId(), WORKOUT_RECORD.getMuscle(),
+                                WORKOUT_RECORD.getLowerRepsRange(), WORKOUT_RECORD.getUpperRepsRange(),
+                                WORKOUT_RECORD.getDate()))
+                .thenReturn(Optional.of(previous));
+
+        Workout result = workoutService.findPreviousComparable(WORKOUT_RECORD.getId());
+
+        assertEquals(previous, result);
+    }
+
+    @Test
+    @DisplayName("should throw ResourceNotFoundException if there is no previous comparable workout")
+    void findPreviousComparable_notFound() throws Exception {
+        when(workoutRepository.findByIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()))
+                .thenReturn(Optional.of(WORKOUT_RECORD));
+        when(workoutRepository
+                .findFirstByUserIdAndMuscleAndLowerRepsRangeAndUpperRepsRangeAndDateBeforeOrderByDateDesc
+                        (any(UUID.class), any(Muscles.class), anyInt(), anyInt(), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                workoutService.findPreviousComparable(WORKOUT_RECORD.getId()));
+    }
+
+    @Test
+    @DisplayName("should return a page and a cursor pointing at its last workout")
+    void findPage_hasNextPage() throws Exception {
+        Workout next = Workout.builder()
+                .id(UUID.randomUUID())
+                .date(WORKOUT_RECORD.getDate().minusDays(1))
+                .build();
+        when(workoutRepository.findFirstPageByUserId(any(UUID.class), any(Pageable.class)))
+                .thenReturn(List.of(WORKOUT_RECORD, next));
+
+        CursorPage<Workout> result = workoutService.findPage(null, 1);
+
+        assertEquals(Collections.singletonList(WORKOUT_RECORD), result.getContent());
+        assertEquals(new KeysetCursor(WORKOUT_RECORD.getDate().toString(), WORKOUT_RECORD.getId()),
+                KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("should continue after the workout encoded in the cursor")
+    void findPage_withCursor() throws Exception {
+        String cursor = new KeysetCursor(WORKOUT_RECORD.getDate().toString(),
+                WORKOUT_RECORD.getId()).encode();
+        when(workoutRepository.findPageByUserIdAfter(any(UUID.class), any(LocalDate.class),
+                any(UUID.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        CursorPage<Workout> result = workoutService.findPage(cursor, 10);
+
+        assertEquals(Collections.emptyList(), result.getContent());
+        assertEquals(null, result.getNextCursor());
+
+        verify(workoutRepository, times(1)).findPageByUserIdAfter(USER_RECORD.getId(),
+                WORKOUT_RECORD.getDate(), WORKOUT_RECORD.getId(), PageRequest.of(0, 11));
+    }
+
+    @Test
+    @DisplayName("should throw InvalidCursorException if the cursor cannot be decoded")
+    void findPage_invalidCursor() throws Exception {
+        assertThrows(InvalidCursorException.class, () ->
+                workoutService.findPage("not-a-cursor", 10));
+
+        verify(workoutRepository, never()).findPageByUserIdAfter(any(UUID.class),
+                any(LocalDate.class), any(UUID.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("should return the workout summaries of the current user")
+    void findSummaries_successful() throws Exception {
+        List<WorkoutSummaryDto> summaries = Collections.singletonList(new WorkoutSummaryDto(
+                WORKOUT_RECORD.getId(), WORKOUT_RECORD.getDate(), WORKOUT_RECORD.getMuscle(),
+                WORKOUT_RECORD.getLowerRepsRange(), WORKOUT_RECORD.getUpperRepsRange(), 3));
+        when(workoutRepository.findSummariesByUserId(USER_RECORD.getId())).thenReturn(summaries);
+
+        List<WorkoutSummaryDto> result = workoutService.findSummaries();
+
+        assertEquals(summaries, result);
+    }
+}
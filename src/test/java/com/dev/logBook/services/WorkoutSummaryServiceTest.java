@@ -0,0 +1,250 @@
+package com.dev.logBook.services;
+
+import com.dev.logBook.ApplicationConfigTest;
+import com.dev.logBook.dtos.SummarizedSetDto;
+import com.dev.logBook.dtos.WorkoutStatsDto;
+import com.dev.logBook.entities.User;
+import com.dev.logBook.entities.Workout;
+import com.dev.logBook.entities.WorkoutExerciseSummary;
+import com.dev.logBook.entities.WorkoutSummary;
+import com.dev.logBook.entities.enums.Role;
+import com.dev.logBook.enums.Muscles;
+import com.dev.logBook.repositories.ExerciseRepository;
+import com.dev.logBook.repositories.WorkoutExerciseSummaryRepository;
+import com.dev.logBook.repositories.WorkoutRepository;
+import com.dev.logBook.repositories.WorkoutSummaryRepository;
+import com.dev.logBook.services.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WorkoutSummaryServiceTest extends ApplicationConfigTest {
+
+    User USER_RECORD = new User("username", "email", "password", Role.ROLE_USER);
+    Workout WORKOUT_RECORD = Workout.builder()
+            .date(LocalDate.now())
+            .muscle(Muscles.CHEST)
+            .user(USER_RECORD)
+            .lowerRepsRange(8)
+            .upperRepsRange(12)
+            .build();
+    WorkoutSummary SUMMARY_RECORD;
+    WorkoutExerciseSummary EXERCISE_SUMMARY_RECORD;
+    @Autowired
+    private WorkoutSummaryService workoutSummaryService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockBean
+    private WorkoutSummaryRepository workoutSummaryRepository;
+    @MockBean
+    private WorkoutExerciseSummaryRepository workoutExerciseSummaryRepository;
+    @MockBean
+    private ExerciseRepository exerciseRepository;
+    @MockBean
+    private WorkoutRepository workoutRepository;
+    @MockBean
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(USER_RECORD, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(WORKOUT_RECORD, "id", UUID.randomUUID());
+        SUMMARY_RECORD = WorkoutSummary.builder()
+                .workoutId(WORKOUT_RECORD.getId())
+                .userId(USER_RECORD.getId())
+                .lowerRepsRange(8)
+                .upperRepsRange(12)
+                .setCount(2)
+                .outOfRangeCount(0)
+                .totalVolume(new BigDecimal("900.00"))
+                .build();
+        EXERCISE_SUMMARY_RECORD = WorkoutExerciseSummary.builder()
+                .workoutId(WORKOUT_RECORD.getId())
+                .catalogId(1)
+                .setCount(2)
+                .volume(new BigDecimal("900.00"))
+                .topSetWeight(new BigDecimal("50.00"))
+                .topSetReps(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should add a set to the totals and raise the top set of its exercise")
+    void add_successful() {
+        when(workoutSummaryRepository.findForUpdate(WORKOUT_RECORD.getId()))
+                .thenReturn(Optional.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findById(
+                new WorkoutExerciseSummary.Key(WORKOUT_RECORD.getId(), 1)))
+                .thenReturn(Optional.of(EXERCISE_SUMMARY_RECORD));
+
+        workoutSummaryService.add(WORKOUT_RECORD.getId(), List.of(
+                new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, new BigDecimal("52.5"), 6),
+                new SummarizedSetDto(WORKOUT_RECORD.getId(), 2, BigDecimal.valueOf(20), 12)));
+
+        assertEquals(4, SUMMARY_RECORD.getSetCount());
+        assertEquals(1, SUMMARY_RECORD.getOutOfRangeCount());
+        assertEquals(0, new BigDecimal("1455").compareTo(SUMMARY_RECORD.getTotalVolume()));
+        assertEquals(3, EXERCISE_SUMMARY_RECORD.getSetCount());
+        assertEquals(0, new BigDecimal("52.5").compareTo(EXERCISE_SUMMARY_RECORD.getTopSetWeight()));
+        assertEquals(6, EXERCISE_SUMMARY_RECORD.getTopSetReps());
+
+        verify(workoutExerciseSummaryRepository, times(1)).save(argThat((WorkoutExerciseSummary exercise) ->
+                exercise.getCatalogId() == 2 && exercise.getSetCount() == 1));
+        verify(exerciseRepository, never()).findSummarizedSetsByWorkoutIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should look for the next best set when the top set is removed")
+    void remove_topSet() {
+        when(workoutSummaryRepository.findForUpdate(WORKOUT_RECORD.getId()))
+                .thenReturn(Optional.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findById(
+                new WorkoutExerciseSummary.Key(WORKOUT_RECORD.getId(), 1)))
+                .thenReturn(Optional.of(EXERCISE_SUMMARY_RECORD));
+        when(exerciseRepository.findSummarizedSetsByWorkoutIdAndCatalogId(WORKOUT_RECORD.getId(), 1))
+                .thenReturn(List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(40), 10)));
+
+        workoutSummaryService.remove(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10));
+
+        assertEquals(1, SUMMARY_RECORD.getSetCount());
+        assertEquals(0, new BigDecimal("400").compareTo(SUMMARY_RECORD.getTotalVolume()));
+        assertEquals(1, EXERCISE_SUMMARY_RECORD.getSetCount());
+        assertEquals(0, new BigDecimal("40").compareTo(EXERCISE_SUMMARY_RECORD.getTopSetWeight()));
+        assertEquals(10, EXERCISE_SUMMARY_RECORD.getTopSetReps());
+    }
+
+    @Test
+    @DisplayName("should drop the exercise summary when its last set is removed")
+    void remove_lastSet() {
+        EXERCISE_SUMMARY_RECORD.setSetCount(1);
+        when(workoutSummaryRepository.findForUpdate(WORKOUT_RECORD.getId()))
+                .thenReturn(Optional.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findById(
+                new WorkoutExerciseSummary.Key(WORKOUT_RECORD.getId(), 1)))
+                .thenReturn(Optional.of(EXERCISE_SUMMARY_RECORD));
+
+        workoutSummaryService.remove(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10));
+
+        verify(workoutExerciseSummaryRepository, times(1)).delete(EXERCISE_SUMMARY_RECORD);
+        verify(exerciseRepository, never()).findSummarizedSetsByWorkoutIdAndCatalogId(any(UUID.class), any());
+    }
+
+    @Test
+    @DisplayName("should rebuild a missing summary from the exercise rows instead of applying the change")
+    void add_missingSummary() {
+        when(workoutRepository.findById(WORKOUT_RECORD.getId())).thenReturn(Optional.of(WORKOUT_RECORD));
+        when(exerciseRepository.findSummarizedSetsByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10)));
+
+        workoutSummaryService.add(WORKOUT_RECORD.getId(),
+                List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10)));
+
+        verify(workoutSummaryRepository, times(1)).save(argThat((WorkoutSummary summary) ->
+                summary.getSetCount() == 1 && summary.getUserId().equals(USER_RECORD.getId())));
+        verify(workoutExerciseSummaryRepository, times(1)).saveAll(argThat((Iterable<WorkoutExerciseSummary> exercises) ->
+                exercises.iterator().next().getTopSetReps() == 10));
+    }
+
+    @Test
+    @DisplayName("should move the exercise summaries of merged exercises to their new catalog id")
+    void rebuildAll_mergedCatalogEntry() {
+        when(workoutSummaryRepository.findForUpdate(WORKOUT_RECORD.getId()))
+                .thenReturn(Optional.of(SUMMARY_RECORD));
+        when(workoutRepository.findById(WORKOUT_RECORD.getId())).thenReturn(Optional.of(WORKOUT_RECORD));
+        when(exerciseRepository.findSummarizedSetsByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 2, BigDecimal.valueOf(50), 10),
+                        new SummarizedSetDto(WORKOUT_RECORD.getId(), 2, BigDecimal.valueOf(40), 10)));
+        when(workoutExerciseSummaryRepository.findByWorkoutId(WORKOUT_RECORD.getId()))
+                .thenReturn(List.of(EXERCISE_SUMMARY_RECORD));
+
+        workoutSummaryService.rebuildAll(List.of(WORKOUT_RECORD.getId()));
+
+        verify(workoutExerciseSummaryRepository, times(1)).delete(EXERCISE_SUMMARY_RECORD);
+        verify(workoutExerciseSummaryRepository, times(1)).saveAll(argThat((Iterable<WorkoutExerciseSummary> exercises) ->
+                exercises.iterator().next().getCatalogId() == 2 && exercises.iterator().next().getSetCount() == 2));
+    }
+
+    @Test
+    @DisplayName("should detect and repair a summary that drifted from its exercise rows")
+    void verify_repairsDrift() {
+        double repairs = meterRegistry.counter("workout-summary.repairs").count();
+        SUMMARY_RECORD.setSetCount(5);
+        when(workoutRepository.findIdsAfter(any(UUID.class), any()))
+                .thenReturn(List.of(WORKOUT_RECORD.getId()));
+        when(workoutSummaryRepository.findAllById(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(EXERCISE_SUMMARY_RECORD));
+        when(exerciseRepository.findSummarizedSetsByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10),
+                        new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(40), 10)));
+        when(workoutRepository.findById(WORKOUT_RECORD.getId())).thenReturn(Optional.of(WORKOUT_RECORD));
+
+        workoutSummaryService.verify();
+
+        assertEquals(repairs + 1, meterRegistry.counter("workout-summary.repairs").count());
+        verify(workoutSummaryRepository, times(1)).findForUpdate(WORKOUT_RECORD.getId());
+        verify(workoutSummaryRepository, times(1)).save(argThat((WorkoutSummary summary) -> summary.getSetCount() == 2));
+    }
+
+    @Test
+    @DisplayName("should leave summaries that match their exercise rows alone")
+    void verify_noDrift() {
+        when(workoutRepository.findIdsAfter(any(UUID.class), any()))
+                .thenReturn(List.of(WORKOUT_RECORD.getId()));
+        when(workoutSummaryRepository.findAllById(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(EXERCISE_SUMMARY_RECORD));
+        when(exerciseRepository.findSummarizedSetsByWorkoutIdIn(List.of(WORKOUT_RECORD.getId())))
+                .thenReturn(List.of(new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(50), 10),
+                        new SummarizedSetDto(WORKOUT_RECORD.getId(), 1, BigDecimal.valueOf(40), 10)));
+
+        workoutSummaryService.verify();
+
+        verify(workoutSummaryRepository, never()).findForUpdate(any(UUID.class));
+        verify(workoutSummaryRepository, never()).save(any(WorkoutSummary.class));
+    }
+
+    @Test
+    @DisplayName("should read the stats of a workout from its summaries")
+    void getStats_successful() {
+        when(workoutSummaryRepository.findByWorkoutIdAndUserId(WORKOUT_RECORD.getId(), USER_RECORD.getId()))
+                .thenReturn(Optional.of(SUMMARY_RECORD));
+        when(workoutExerciseSummaryRepository.findByWorkoutId(WORKOUT_RECORD.getId()))
+                .thenReturn(List.of(EXERCISE_SUMMARY_RECORD));
+        when(exerciseCatalogService.getDisplayName(1)).thenReturn("Bench Press");
+
+        WorkoutStatsDto result = workoutSummaryService.getStats(WORKOUT_RECORD.getId(), USER_RECORD.getId());
+
+        assertEquals(new WorkoutStatsDto(2, 0, new BigDecimal("900.00"),
+                List.of(new WorkoutStatsDto.ExerciseStatsDto("Bench Press", 2, new BigDecimal("900.00"),
+                        new BigDecimal("50.00"), 10))), result);
+        verify(exerciseRepository, never()).findSummarizedSetsByWorkoutIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should throw ResourceNotFoundException if user is not the owner of the workout")
+    void getVolumeLoad_invalidCheckOwnership() {
+        assertThrows(ResourceNotFoundException.class, () ->
+                workoutSummaryService.getVolumeLoad(WORKOUT_RECORD.getId(), UUID.randomUUID()));
+
+        verify(workoutRepository, times(1)).existsByIdAndUserId(any(UUID.class), any(UUID.class));
+        verify(workoutExerciseSummaryRepository, never()).findByWorkoutId(any(UUID.class));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dev.logBook.services.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExerciseNamesTest {
+
+    @Test
+    @DisplayName("should fold case and collapse whitespace, hyphens and underscores")
+    void normalize() {
+        assertEquals("bench press", ExerciseNames.normalize("Bench Press"));
+        assertEquals("bench press", ExerciseNames.normalize("  bench   press "));
+        assertEquals("bench press", ExerciseNames.normalize("BENCH-PRESS"));
+        assertEquals("bench press", ExerciseNames.normalize("bench_press"));
+        assertEquals("bench press", ExerciseNames.normalize("bench\tpress"));
+    }
+
+    @Test
+    @DisplayName("should keep the case of the display name")
+    void display() {
+        assertEquals("Bench Press", ExerciseNames.display("  Bench   Press "));
+    }
+}
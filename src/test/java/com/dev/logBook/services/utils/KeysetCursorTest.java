@@ -0,0 +1,30 @@
+package com.dev.logBook.services.utils;
+
+import com.dev.logBook.services.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("should decode an encoded cursor")
+    void encode_decode() {
+        KeysetCursor cursor = new KeysetCursor("2023-05-01", UUID.randomUUID());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("should throw InvalidCursorException for a malformed cursor")
+    void decode_invalid() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("%%%"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(InvalidCursorException.class, () ->
+                KeysetCursor.decode(new KeysetCursor("2023-05-01", UUID.randomUUID())
+                        .encode().substring(0, 20)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dev.logBook.services.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OneRepMaxTest {
+
+    @Test
+    @DisplayName("should use Brzycki up to ten reps to failure")
+    void estimate_brzycki() {
+        assertEquals(new BigDecimal("112.50"), OneRepMax.estimate(new BigDecimal("100"), 5, 0));
+        assertEquals(new BigDecimal("133.33"), OneRepMax.estimate(new BigDecimal("100"), 10, 0));
+    }
+
+    @Test
+    @DisplayName("should use Epley above ten reps to failure")
+    void estimate_epley() {
+        assertEquals(new BigDecimal("140.00"), OneRepMax.estimate(new BigDecimal("100"), 12, 0));
+        assertEquals(new BigDecimal("40.00"), OneRepMax.estimate(new BigDecimal("20"), 30, 0));
+    }
+
+    @Test
+    @DisplayName("should count reps in reserve as reps to failure")
+    void estimate_repsInReserve() {
+        assertEquals(OneRepMax.estimate(new BigDecimal("100"), 7, 0),
+                OneRepMax.estimate(new BigDecimal("100"), 5, 2));
+        assertEquals(OneRepMax.estimate(new BigDecimal("100"), 14, 0),
+                OneRepMax.estimate(new BigDecimal("100"), 8, 6));
+    }
+
+    @Test
+    @DisplayName("should return the weight itself for a single to failure")
+    void estimate_single() {
+        assertEquals(new BigDecimal("182.50"), OneRepMax.estimate(new BigDecimal("182.5"), 1, 0));
+    }
+
+    @Test
+    @DisplayName("should round the weight like the exercises column before estimating")
+    void estimate_roundsWeight() {
+        assertEquals(OneRepMax.estimate(new BigDecimal("60.01"), 8, 1),
+                OneRepMax.estimate(new BigDecimal("60.005"), 8, 1));
+    }
+
+    @Test
+    @DisplayName("should estimate zero for a set without reps and nothing without a weight")
+    void estimate_edgeCases() {
+        assertEquals(new BigDecimal("0.00"), OneRepMax.estimate(new BigDecimal("100"), 0, 3));
+        assertNull(OneRepMax.estimate(null, 5, 0));
+        assertNull(OneRepMax.volume(null, 5));
+    }
+
+    @Test
+    @DisplayName("should compute the volume of a set as weight times reps")
+    void volume() {
+        assertEquals(new BigDecimal("420.00"), OneRepMax.volume(new BigDecimal("52.5"), 8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.dev.logBook.services.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("should generate version 7 UUIDs with the IETF variant")
+    void generate_versionAndVariant() {
+        UUID uuid = TimeOrderedUuid.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("should embed the generation time in milliseconds")
+    void generate_timestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuid.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = TimeOrderedUuid.timestampOf(uuid);
+        assertTrue(timestamp >= before && timestamp <= after + 2);
+    }
+
+    @Test
+    @DisplayName("should generate strictly increasing UUIDs within the same millisecond")
+    void generate_monotonic() {
+        long now = System.currentTimeMillis();
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            generated.add(TimeOrderedUuid.generate(now));
+        }
+
+        for (int i = 1; i < generated.size(); i++) {
+            assertTrue(generated.get(i - 1).compareTo(generated.get(i)) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("should keep ordering when the clock goes backwards")
+    void generate_clockStepBack() {
+        long now = System.currentTimeMillis();
+        UUID first = TimeOrderedUuid.generate(now);
+        UUID second = TimeOrderedUuid.generate(now - 1000);
+
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    @DisplayName("should reject extracting a timestamp from a random UUID")
+    void timestampOf_randomUuid() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TimeOrderedUuid.timestampOf(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.dev.logBook.services.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    @DisplayName("should allow up to the capacity and then reject")
+    void tryAcquire_capacity() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 3, 1);
+
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertFalse(limiter.tryAcquire("127.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("should refill tokens over time")
+    void tryAcquire_refill() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 1, 600, clock::get);
+
+        assertTrue(limiter.tryAcquire("key"));
+        assertFalse(limiter.tryAcquire("key"));
+
+        clock.set(99);
+        assertFalse(limiter.tryAcquire("key"));
+
+        clock.set(100);
+        assertTrue(limiter.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("should keep the time not yet turned into tokens for the next acquire")
+    void tryAcquire_partialRefill() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 3, 1, clock::get);
+
+        assertTrue(limiter.tryAcquire("key"));
+        clock.set(59);
+        assertTrue(limiter.tryAcquire("key"));
+        clock.set(118);
+        assertTrue(limiter.tryAcquire("key"));
+        assertFalse(limiter.tryAcquire("key"));
+
+        clock.set(60_000);
+        assertTrue(limiter.tryAcquire("key"));
+        assertFalse(limiter.tryAcquire("key"));
+    }
+
+    @Test
+    @DisplayName("should never hand out more tokens than the capacity under contention")
+    void tryAcquire_concurrent() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 100, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1000; j++) {
+                    if (limiter.tryAcquire("key")) acquired.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(100, acquired.get());
+    }
+
+    @Test
+    @DisplayName("should reject invalid configurations")
+    void constructor_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(10, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(16, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(16, 1, 0));
+    }
+}
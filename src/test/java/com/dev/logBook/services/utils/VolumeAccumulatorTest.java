@@ -0,0 +1,60 @@
+package com.dev.logBook.services.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VolumeAccumulatorTest {
+
+    @Test
+    @DisplayName("should sum weight times reps per catalog id")
+    void add_sumsPerCatalogId() {
+        VolumeAccumulator accumulator = new VolumeAccumulator(4);
+
+        accumulator.add(1, new BigDecimal("50"), 10);
+        accumulator.add(1, new BigDecimal("52.5"), 8);
+        accumulator.add(2, new BigDecimal("12.125"), 12);
+
+        assertEquals(2, accumulator.size());
+        assertEquals(new BigDecimal("920.0"), accumulator.volume(1));
+        assertEquals(new BigDecimal("145.500"), accumulator.volume(2));
+        assertEquals(145_500, accumulator.scaledVolume(2));
+        assertNull(accumulator.volume(3));
+    }
+
+    @Test
+    @DisplayName("should give the same values and scales as BigDecimal arithmetic")
+    void add_matchesBigDecimal() {
+        Random random = new Random(7);
+        VolumeAccumulator accumulator = new VolumeAccumulator(8);
+        Map<Integer, BigDecimal> expected = new HashMap<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            int catalogId = random.nextInt(500) - 250;
+            BigDecimal weight = BigDecimal.valueOf(random.nextInt(1_500_000), random.nextInt(4));
+            int reps = random.nextInt(51);
+
+            accumulator.add(catalogId, weight, reps);
+            expected.merge(catalogId, weight.multiply(BigDecimal.valueOf(reps)), BigDecimal::add);
+        }
+
+        Map<Integer, BigDecimal> result = new HashMap<>();
+        accumulator.forEach(result::put);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    @DisplayName("should reject weights with more than three fraction digits")
+    void add_tooPrecise() {
+        VolumeAccumulator accumulator = new VolumeAccumulator(4);
+
+        assertThrows(ArithmeticException.class, () ->
+                accumulator.add(1, new BigDecimal("10.0005"), 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.dev.logBook.services.utils;
+
+import com.dev.logBook.entities.Exercise;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WorkoutComparisonTest {
+
+    private static Exercise set(int catalogId, int reps, int weight) {
+        return Exercise.builder()
+                .name("exercise " + catalogId)
+                .catalogId(catalogId)
+                .reps(reps)
+                .weight(BigDecimal.valueOf(weight))
+                .build();
+    }
+
+    private static String displayName(int catalogId) {
+        return "exercise " + catalogId;
+    }
+
+    @Test
+    @DisplayName("should compare repeated sets of an exercise in the order they were logged")
+    void of_matchesSetsInOrder() {
+        List<Exercise> oldSets = List.of(set(1, 10, 50), set(1, 8, 50), set(1, 6, 50));
+        List<Exercise> newSets = List.of(set(1, 12, 55), set(1, 9, 55));
+
+        WorkoutComparison result = WorkoutComparison.of(oldSets, newSets,
+                WorkoutComparisonTest::displayName);
+
+        assertEquals(List.of(
+                new ExerciseComparator("exercise 1", 2, BigDecimal.valueOf(5), 0),
+                new ExerciseComparator("exercise 1", 1, BigDecimal.valueOf(5), 0)
+        ), result.differences());
+        assertEquals(1, result.oldOnly().size());
+        assertSame(oldSets.get(2), result.oldOnly().get(0));
+        assertEquals(Collections.emptyList(), result.newOnly());
+    }
+
+    @Test
+    @DisplayName("should split exercises found in only one of the workouts")
+    void of_oldOnlyAndNewOnly() {
+        Exercise oldOnly = set(2, 10, 20);
+        Exercise newOnly = set(3, 10, 30);
+        List<Exercise> oldSets = List.of(set(1, 10, 50), oldOnly);
+        List<Exercise> newSets = List.of(newOnly, set(1, 10, 50));
+
+        WorkoutComparison result = WorkoutComparison.of(oldSets, newSets,
+                WorkoutComparisonTest::displayName);
+
+        assertEquals(List.of(new ExerciseComparator("exercise 1", 0, null, 0)),
+                result.differences());
+        assertEquals(List.of(oldOnly), result.oldOnly());
+        assertEquals(List.of(newOnly), result.newOnly());
+    }
+
+    @Test
+    @DisplayName("should keep the order of the unmatched sets")
+    void of_keepsOrder() {
+        List<Exercise> newSets = List.of(set(3, 1, 1), set(1, 2, 2), set(2, 3, 3), set(1, 4, 4));
+
+        WorkoutComparison result = WorkoutComparison.of(List.of(set(1, 2, 2)), newSets,
+                WorkoutComparisonTest::displayName);
+
+        assertEquals(List.of(newSets.get(0), newSets.get(2), newSets.get(3)), result.newOnly());
+    }
+
+    @Test
+    @DisplayName("should leave sets without a catalog id unmatched")
+    void of_withoutCatalogId() {
+        Exercise oldSet = Exercise.builder().name("exercise").reps(10).weight(BigDecimal.TEN).build();
+        Exercise newSet = Exercise.builder().name("exercise").reps(10).weight(BigDecimal.TEN).build();
+
+        WorkoutComparison result = WorkoutComparison.of(List.of(oldSet), List.of(newSet),
+                WorkoutComparisonTest::displayName);
+
+        assertEquals(Collections.emptyList(), result.differences());
+        assertEquals(List.of(oldSet), result.oldOnly());
+        assertEquals(List.of(newSet), result.newOnly());
+    }
+}